@@ -0,0 +1,44 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.config.AuthUserArgumentResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthUserArgumentResolverBenchmark {
+
+    private final AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        // JwtFilter 가 넣어주는 것과 같은 속성을 채워둔다.
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute("userId", 1L);
+        request.setAttribute("email", "bench@example.com");
+        request.setAttribute("userRole", "USER");
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(null, null, webRequest, null);
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.expert.benchmark;
+
+import java.lang.reflect.Field;
+
+// 스프링 컨텍스트 없이 도는 벤치마크의 필드 주입을 여기서 직접 처리한다.
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static void setField(Object target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException(fieldName);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.expert.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 댓글/담당자 목록을 응답 DTO 로 읽는 두 방식을 내장 H2 에 대고 비교한다.
+// projection: 지금 서비스가 쓰는 JPQL 생성자 표현식. 응답 컬럼만 읽고 엔티티를 만들지 않는다.
+// entity: 이전 방식. 작성자를 fetch join 한 엔티티를 읽어 영속성 컨텍스트에 올린 뒤 루프로 DTO 를 만든다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"10", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private CommentRepository commentRepository;
+    private ManagerRepository managerRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private long todoId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExpertApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark-" + rows + ";DB_CLOSE_DELAY=-1",
+                        "todo.search.enabled=false",
+                        "logging.level.root=warn")
+                .run();
+        commentRepository = context.getBean(CommentRepository.class);
+        managerRepository = context.getBean(ManagerRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User owner = userRepository.save(new User("owner@example.com", "password", UserRole.USER));
+        Todo todo = context.getBean(TodoRepository.class).save(new Todo("title", "contents", "Sunny", owner));
+        todoId = todo.getId();
+
+        List<User> users = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            users.add(new User("user" + i + "@example.com", "password", UserRole.USER));
+        }
+        users = userRepository.saveAll(users);
+
+        List<Comment> comments = new ArrayList<>(rows);
+        List<Manager> managers = new ArrayList<>(rows);
+        for (User user : users) {
+            comments.add(new Comment("contents-" + user.getId(), user, todo));
+            managers.add(new Manager(user, todo));
+        }
+        commentRepository.saveAll(comments);
+        managerRepository.saveAll(managers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsProjection() {
+        return commentRepository.findResponsesByTodoId(todoId);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentsEntity() {
+        return readOnlyTransaction.execute(status -> {
+            List<Comment> commentList = entityManager.createQuery(
+                            "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.id", Comment.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<CommentResponse> dtoList = new ArrayList<>(commentList.size());
+            for (Comment comment : commentList) {
+                User user = comment.getUser();
+                dtoList.add(new CommentResponse(comment.getId(), comment.getContents(), new UserResponse(user.getId(), user.getEmail())));
+            }
+            return dtoList;
+        });
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managersProjection() {
+        return managerRepository.findResponsesByTodoId(todoId);
+    }
+
+    @Benchmark
+    public List<ManagerResponse> managersEntity() {
+        return readOnlyTransaction.execute(status -> {
+            List<Manager> managerList = entityManager.createQuery(
+                            "SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId", Manager.class)
+                    .setParameter("todoId", todoId)
+                    .getResultList();
+
+            List<ManagerResponse> dtoList = new ArrayList<>(managerList.size());
+            for (Manager manager : managerList) {
+                User user = manager.getUser();
+                dtoList.add(new ManagerResponse(manager.getId(), new UserResponse(user.getId(), user.getEmail())));
+            }
+            return dtoList;
+        });
+    }
+}
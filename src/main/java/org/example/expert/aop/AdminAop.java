@@ -8,11 +8,7 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 
-import org.example.expert.domain.user.entity.ApiUseTime;
-import org.example.expert.domain.user.entity.User;
-import org.example.expert.domain.user.repository.ApiUseTimeRepository;
-import org.example.expert.domain.user.repository.UserRepository;
-
+import org.example.expert.domain.user.service.ApiLatencyService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -25,8 +21,8 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AdminAop {
 
-    private final ApiUseTimeRepository apiUseTimeRepository;
-    private final UserRepository userRepository;
+    private final ApiUseTimeAccumulator apiUseTimeAccumulator;
+    private final ApiLatencyService apiLatencyService;
 
 
     @Pointcut("execution(* org.example.expert.domain.comment.commentcontroller.CommentAdminController.deleteComment(..))")
@@ -41,6 +37,7 @@ public class AdminAop {
     public Object execute(ProceedingJoinPoint joinPoint) throws Throwable {
         //측정 시간
         long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
 
         // 요청 사항
         ServletRequestAttributes requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -49,16 +46,6 @@ public class AdminAop {
         LocalDateTime requestTime = LocalDateTime.now(); // API 요청 시각
         Long userId = (Long) request.getAttribute("userId"); // Attribute에서 사용자 ID 가져오기
 
-        // userId로 user 객체를 조회
-        User user;
-        try{
-        user= userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없다."));
-        } catch (Exception e) {
-            log.error("사용자 조회 중 오류 발생. 사용자 ID: " + userId, e);
-            throw e;
-        }
-
         try {
             // 핵심기능 수행
             Object output = joinPoint.proceed();
@@ -70,6 +57,7 @@ public class AdminAop {
             long endTime = System.currentTimeMillis();
             // 수행시간 = 종료 시간 - 시작 시간
             long runTime = endTime - startTime;
+            long latencyMicros = (System.nanoTime() - startNanos) / 1_000;
 
 
             log.info("[API 사용 시간] 사용자 ID: " + userId +
@@ -77,15 +65,14 @@ public class AdminAop {
                     ", 요청 URL: " + requestUrl +
                     ", 요청 Time: " + requestTime);
 
-            // API 사용시간 및 DB에 기록
-            try {
-                ApiUseTime apiUseTime = apiUseTimeRepository.findByUser(user)
-                        .orElse(new ApiUseTime(user, runTime));
+            // API 사용시간 및 응답 시간 분포 기록, DB 반영은 각각 스케줄러가 모아서 처리
+            if (userId != null) {
+                apiUseTimeAccumulator.record(userId, runTime);
 
-                apiUseTime.addUseTime(runTime);
-                apiUseTimeRepository.save(apiUseTime);
-            } catch (Exception e) {
-                log.error("API 사용 시간 기록 중 오류 발생. 사용자 ID: " + userId, e);
+                // 엔드포인트별 응답 시간 분포 기록
+                String endpoint = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                        + "." + joinPoint.getSignature().getName();
+                apiLatencyService.record(endpoint, userId, latencyMicros);
             }
         }
     }
@@ -0,0 +1,133 @@
+package org.example.expert.aop;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.user.entity.ApiUseTime;
+import org.example.expert.domain.user.repository.ApiUseTimeRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 요청 스레드에서는 메모리 카운터만 올리고, DB 반영은 스케줄러가 모아서 한 번에 처리한다.
+// 한 번에 반영하다 실패하면 유저별로 나눠 다시 반영해서, 한 유저의 오류가 다른 유저의 반영을 막지 않게 한다.
+// 한 주기 동안 기록이 없던 유저의 카운터는 맵에서 지운다.
+@Slf4j(topic = "ApiUseTimeAccumulator")
+@Component
+public class ApiUseTimeAccumulator {
+
+    private static final String ADD_USE_TIME_SQL =
+            "UPDATE api_use_time SET total_time = total_time + ? WHERE user_id = ?";
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApiUseTimeRepository apiUseTimeRepository;
+    private final UserRepository userRepository;
+
+    public ApiUseTimeAccumulator(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ApiUseTimeRepository apiUseTimeRepository,
+                                 UserRepository userRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.apiUseTimeRepository = apiUseTimeRepository;
+        this.userRepository = userRepository;
+    }
+
+    public void record(Long userId, long useTime) {
+        // LongAdder 가 내부적으로 셀을 나눠 두므로 같은 유저에 동시에 몰려도 경합이 적다.
+        LongAdder adder = pending.computeIfAbsent(userId, id -> new LongAdder());
+        adder.add(useTime);
+        // 더하는 사이에 drain 이 빈 카운터로 보고 지웠다면 맵에 있는 카운터로 옮긴다.
+        if (pending.get(userId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                record(userId, moved);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api-use-time.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(deltas));
+        } catch (Exception e) {
+            log.warn("API 사용 시간 일괄 반영 실패, 유저별로 다시 반영합니다. 대상 사용자 수: " + deltas.size(), e);
+            deltas.forEach(this::flushOne);
+        }
+    }
+
+    private void flushOne(Long userId, Long delta) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(Map.of(userId, delta)));
+        } catch (Exception e) {
+            // 이 유저의 트랜잭션만 롤백되었으므로 다음 주기에 다시 반영되도록 돌려놓는다.
+            log.error("API 사용 시간 반영 중 오류 발생. userId: " + userId, e);
+            record(userId, delta);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingUserCount() {
+        return pending.size();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((userId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.put(userId, delta);
+            } else {
+                // 지우는 순간에도 비어 있을 때만 지운다. 그 사이 더해진 값은 record 가 새 카운터로 옮긴다.
+                pending.computeIfPresent(userId, (id, current) -> current == adder && adder.sum() == 0 ? null : current);
+            }
+        });
+        return deltas;
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+
+        int[][] updateCounts = jdbcTemplate.batchUpdate(ADD_USE_TIME_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+
+        // 갱신된 행이 없는 유저(첫 기록)만 새로 만든다.
+        List<ApiUseTime> newRows = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : updateCounts) {
+            for (int updateCount : batch) {
+                Map.Entry<Long, Long> entry = entries.get(index++);
+                if (updateCount == 0) {
+                    // 기록 후 탈퇴한 유저는 행을 만들 수 없으므로(외래 키) 버린다. 첫 기록에서만 확인한다.
+                    if (!userRepository.existsById(entry.getKey())) {
+                        log.warn("존재하지 않는 유저의 API 사용 시간은 버립니다. userId: " + entry.getKey() + ", useTime: " + entry.getValue());
+                        continue;
+                    }
+                    newRows.add(new ApiUseTime(userRepository.getReferenceById(entry.getKey()), entry.getValue()));
+                }
+            }
+        }
+        apiUseTimeRepository.saveAll(newRows);
+    }
+}
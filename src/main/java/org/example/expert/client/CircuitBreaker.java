@@ -0,0 +1,126 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// 연속 실패가 threshold 에 도달하면 openDuration 동안 호출을 바로 거절하고, 이후 한 번만 시험 호출(HALF_OPEN)을 허용한다.
+@Slf4j(topic = "CircuitBreaker")
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final Counter tripCounter;
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+        this(name, failureThreshold, openDuration, meterRegistry, Clock.systemUTC());
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        this.tripCounter = Counter.builder("circuit.breaker.trips")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("circuit.breaker.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> supplier) {
+        acquirePermission();
+        try {
+            T result = supplier.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure();
+            throw e;
+        }
+    }
+
+    // 비동기 호출용. 결과 future 가 끝나는 시점에 성공/실패를 기록한다.
+    public <T> CompletableFuture<T> executeAsync(Supplier<CompletableFuture<T>> supplier) {
+        try {
+            acquirePermission();
+        } catch (ServerException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = supplier.get();
+        } catch (RuntimeException e) {
+            onFailure();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, e) -> {
+            if (e == null) {
+                onSuccess();
+            } else {
+                onFailure();
+            }
+        });
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public long getTripCount() {
+        return (long) tripCounter.count();
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openDuration.toMillis()) {
+                rejectedCounter.increment();
+                throw new ServerException(name + " 호출이 일시적으로 차단되었습니다.");
+            }
+            state = State.HALF_OPEN;
+        } else if (state == State.HALF_OPEN) {
+            // 시험 호출은 하나만 보낸다.
+            rejectedCounter.increment();
+            throw new ServerException(name + " 호출이 일시적으로 차단되었습니다.");
+        }
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            tripCounter.increment();
+            log.warn(name + " 회로가 열렸습니다. 연속 실패 횟수: " + consecutiveFailures);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+// 부하 테스트나 외부망이 없는 노드에서 쓰는 로컬 파일 기반 날씨 데이터. 파일은 메모리 매핑해서 읽는다.
+@Component
+@ConditionalOnProperty(name = "weather.source", havingValue = "file")
+public class FileWeatherSource implements WeatherSource {
+
+    private final Resource resource;
+    private final ObjectMapper objectMapper;
+
+    public FileWeatherSource(ResourceLoader resourceLoader,
+                             ObjectMapper objectMapper,
+                             @Value("${weather.file.location:file:./weather.json}") String location) {
+        this.resource = resourceLoader.getResource(location);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public WeatherDto[] fetchWeather() {
+        try {
+            WeatherDto[] weatherArray = read();
+            if (weatherArray == null || weatherArray.length == 0) {
+                throw new ServerException("날씨 데이터가 없습니다.");
+            }
+            return weatherArray;
+        } catch (IOException e) {
+            throw new ServerException("날씨 파일을 읽는데 실패했습니다. " + resource.getDescription());
+        }
+    }
+
+    private WeatherDto[] read() throws IOException {
+        if (!resource.isFile()) {
+            // jar 안의 classpath 리소스처럼 매핑할 수 없는 경우
+            try (InputStream inputStream = resource.getInputStream()) {
+                return objectMapper.readValue(inputStream, WeatherDto[].class);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return objectMapper.readValue(new ByteBufferBackedInputStream(buffer), WeatherDto[].class);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// weather.http.async=true 면 JDK HttpClient 비동기 API 로 받아서 본문을 받는 대로 파싱한다. 호출 스레드는 기다리지 않는다.
+// 기본은 RestTemplate 으로 문서 전체를 받는 동기 방식이다.
+@Component
+@ConditionalOnProperty(name = "weather.source", havingValue = "http", matchIfMissing = true)
+public class HttpWeatherSource implements WeatherSource {
+
+    private final RestTemplate restTemplate;
+    private final HttpClient httpClient;
+    private final URI weatherApiUri;
+    private final Duration readTimeout;
+    private final CircuitBreaker circuitBreaker;
+
+    public HttpWeatherSource(RestTemplateBuilder builder,
+                             MeterRegistry meterRegistry,
+                             @Value("${weather.http.base-url:https://f-api.github.io}") String baseUrl,
+                             @Value("${weather.http.connect-timeout:PT1S}") Duration connectTimeout,
+                             @Value("${weather.http.read-timeout:PT2S}") Duration readTimeout,
+                             @Value("${weather.http.circuit-breaker.failure-threshold:3}") int failureThreshold,
+                             @Value("${weather.http.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+                             @Value("${weather.http.async:false}") boolean async) {
+        this.restTemplate = builder
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.httpClient = async ? HttpClient.newBuilder().connectTimeout(connectTimeout).build() : null;
+        this.readTimeout = readTimeout;
+        this.weatherApiUri = buildWeatherApiUri(baseUrl);
+        this.circuitBreaker = new CircuitBreaker("weather-api", failureThreshold, openDuration, meterRegistry);
+    }
+
+    @Override
+    public WeatherDto[] fetchWeather() {
+        return circuitBreaker.execute(() -> {
+            ResponseEntity<WeatherDto[]> responseEntity =
+                    restTemplate.getForEntity(weatherApiUri, WeatherDto[].class);
+
+            WeatherDto[] weatherArray = responseEntity.getBody();
+            if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+            }
+            if (weatherArray == null || weatherArray.length == 0) {
+                throw new ServerException("날씨 데이터가 없습니다.");
+            }
+            return weatherArray;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> streamWeather(Consumer<WeatherDto> consumer) {
+        if (httpClient == null) {
+            return WeatherSource.super.streamWeather(consumer);
+        }
+
+        return circuitBreaker.executeAsync(() -> {
+            // timeout 은 응답 헤더까지, 본문은 done 에 같은 시간 제한을 건다.
+            HttpRequest request = HttpRequest.newBuilder(weatherApiUri).timeout(readTimeout).GET().build();
+            WeatherStreamParser parser = new WeatherStreamParser(consumer);
+            httpClient.sendAsync(request, responseInfo -> responseInfo.statusCode() == 200
+                            ? HttpResponse.BodySubscribers.fromSubscriber(parser)
+                            : HttpResponse.BodySubscribers.discarding())
+                    .whenComplete((response, e) -> {
+                        if (e != null) {
+                            parser.fail(e);
+                        } else if (response.statusCode() != 200) {
+                            parser.fail(new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode()));
+                        }
+                    });
+            return parser.done().orTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        });
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    private URI buildWeatherApiUri(String baseUrl) {
+        return UriComponentsBuilder
+                .fromUriString(baseUrl)
+                .path("/f-api/weather.json")
+                .encode()
+                .build()
+                .toUri();
+    }
+}
@@ -1,62 +1,239 @@
 package org.example.expert.client;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+// weather.json 전체를 한 번 받아 MonthDay -> 날씨 맵으로 들고 있고, 오래되면 백그라운드에서 새로 받아온다.
+// 갱신 중이거나 갱신이 실패해도 마지막으로 받아둔 값을 그대로 내려준다.
+// 받아오는 작업은 한 번에 하나만 돌고(동시에 부른 쪽은 같은 작업에 합류), 오늘 항목이 읽히는 즉시 기다리던 쪽에 돌려준다.
+// 받아오기는 항상 weather-refresh 스레드에서 시작하므로 동기 방식 WeatherSource 여도 호출한 스레드를 막지 않는다.
+// 나머지 항목은 이어서 읽어 캐시를 채운다.
+@Slf4j(topic = "WeatherClient")
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+    private static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(3);
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final WeatherSource weatherSource;
+    private final Duration ttl;
+    private final Duration deadline;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<Load> inFlight = new AtomicReference<>();
+
+    private volatile WeatherTable weatherTable;
+
+    @Autowired
+    public WeatherClient(WeatherSource weatherSource,
+                         @Value("${weather.cache.ttl:PT1H}") Duration ttl,
+                         @Value("${weather.deadline:PT3S}") Duration deadline) {
+        this(weatherSource, ttl, deadline, Clock.systemDefaultZone());
+    }
+
+    WeatherClient(WeatherSource weatherSource, Duration ttl, Clock clock) {
+        this(weatherSource, ttl, DEFAULT_DEADLINE, clock);
+    }
+
+    WeatherClient(WeatherSource weatherSource, Duration ttl, Duration deadline, Clock clock) {
+        this.weatherSource = weatherSource;
+        this.ttl = ttl;
+        this.deadline = deadline;
+        this.clock = clock;
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        try {
+            return getTodayWeatherAsync().join();
+        } catch (CompletionException e) {
+            throw toServerException(e.getCause());
+        }
+    }
+
+    // 캐시가 있으면 바로 끝난 future 를, 없으면 진행 중인 받아오기에 합류한 future 를 돌려준다.
+    // 돌려받은 future 는 weather.deadline 안에 끝나지 않으면 ServerException 으로 끝난다.
+    public CompletableFuture<String> getTodayWeatherAsync() {
+        WeatherTable current = weatherTable;
+        if (current != null) {
+            if (current.isStale(clock, ttl)) {
+                refreshAsync();
+            }
+            String weather = current.get(MonthDay.now(clock));
+            return weather == null ? CompletableFuture.failedFuture(notFound()) : CompletableFuture.completedFuture(weather);
+        }
+
+        // 아직 한 번도 받아오지 못한 경우에만 받아오기를 기다린다.
+        // 공유 중인 받아오기는 그대로 두고 이 호출자만 제한 시간에 끝낸다. 제한 시간은 받아오기를 시작하기 전에 건다.
+        CompletableFuture<String> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(deadline.toMillis(), TimeUnit.MILLISECONDS).execute(() ->
+                result.completeExceptionally(new ServerException("날씨 데이터를 제한 시간 안에 받지 못했습니다.")));
+        startLoad().today.whenComplete((weather, e) -> {
+            if (e == null) {
+                result.complete(weather);
+            } else {
+                result.completeExceptionally(toServerException(e));
+            }
+        });
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync();
+    }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+    // 날짜가 바뀌면 바로 새 문서를 받아둔다.
+    @Scheduled(cron = "0 0 0 * * *")
+    public void refreshAsync() {
+        if (inFlight.get() != null) {
+            return;
         }
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+        startLoad().table.whenComplete((table, e) -> {
+            if (e != null) {
+                log.warn("날씨 데이터 갱신 실패, 마지막으로 받아둔 값을 계속 사용합니다.", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Load startLoad() {
+        while (true) {
+            Load existing = inFlight.get();
+            if (existing != null) {
+                return existing;
+            }
+            Load load = new Load();
+            if (inFlight.compareAndSet(null, load)) {
+                // 동기 방식 WeatherSource 는 받아오기를 시작한 스레드에서 읽으므로 별도 스레드에서 시작한다.
+                try {
+                    refreshExecutor.execute(() -> run(load));
+                } catch (RejectedExecutionException e) {
+                    inFlight.compareAndSet(load, null);
+                    load.today.completeExceptionally(e);
+                    load.table.completeExceptionally(e);
+                }
+                return load;
+            }
         }
+    }
 
+    private void run(Load load) {
+        MonthDay today = MonthDay.now(clock);
+        Map<MonthDay, String> weatherByDate = new HashMap<>();
 
-        String today = getCurrentDate();
+        CompletableFuture<Void> streamed;
+        try {
+            streamed = weatherSource.streamWeather(weatherDto -> {
+                MonthDay date = parseDate(weatherDto);
+                if (date == null) {
+                    return;
+                }
+                weatherByDate.put(date, weatherDto.getWeather());
+                if (date.equals(today)) {
+                    load.today.complete(weatherDto.getWeather());
+                }
+            });
+        } catch (RuntimeException e) {
+            streamed = CompletableFuture.failedFuture(e);
+        }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+        streamed.whenComplete((result, e) -> {
+            if (e == null) {
+                WeatherTable loaded = new WeatherTable(weatherByDate, Instant.now(clock), LocalDate.now(clock));
+                // 캐시를 먼저 채우고 나서 진행 중 표시를 지워야 그 사이에 새 받아오기가 시작되지 않는다.
+                weatherTable = loaded;
+                inFlight.compareAndSet(load, null);
+                load.today.completeExceptionally(notFound());
+                load.table.complete(loaded);
+            } else {
+                inFlight.compareAndSet(load, null);
+                load.today.completeExceptionally(e);
+                load.table.completeExceptionally(e);
             }
+        });
+    }
+
+    private MonthDay parseDate(WeatherDto weatherDto) {
+        try {
+            return MonthDay.parse(weatherDto.getDate(), DATE_FORMATTER);
+        } catch (DateTimeParseException | NullPointerException e) {
+            log.warn("날짜 형식이 잘못된 날씨 데이터는 건너뜁니다. date: " + weatherDto.getDate());
+            return null;
         }
+    }
+
+    private ServerException notFound() {
+        return new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private RuntimeException toServerException(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof ServerException serverException) {
+            return serverException;
+        }
+        return new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + cause.getMessage());
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    // 한 번의 받아오기. today 는 오늘 항목이 읽히는 즉시, table 은 문서를 다 읽은 뒤 끝난다.
+    private static class Load {
+
+        private final CompletableFuture<String> today = new CompletableFuture<>();
+        private final CompletableFuture<WeatherTable> table = new CompletableFuture<>();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private static class WeatherTable {
+
+        private final Map<MonthDay, String> weatherByDate;
+        private final Instant loadedAt;
+        private final LocalDate loadedDate;
+
+        private WeatherTable(Map<MonthDay, String> weatherByDate, Instant loadedAt, LocalDate loadedDate) {
+            this.weatherByDate = weatherByDate;
+            this.loadedAt = loadedAt;
+            this.loadedDate = loadedDate;
+        }
+
+        private String get(MonthDay monthDay) {
+            return weatherByDate.get(monthDay);
+        }
+
+        private boolean isStale(Clock clock, Duration ttl) {
+            return !loadedDate.equals(LocalDate.now(clock)) || loadedAt.plus(ttl).isBefore(Instant.now(clock));
+        }
     }
 }
@@ -0,0 +1,25 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// 날씨 문서를 어디서 읽어올지 추상화한다. weather.source=http(기본) | file
+public interface WeatherSource {
+
+    WeatherDto[] fetchWeather();
+
+    // 항목을 읽는 대로 하나씩 consumer 에 넘기고, 문서를 다 읽으면 끝나는 future 를 돌려준다.
+    // 기본 구현은 fetchWeather 로 문서 전체를 읽은 뒤 넘긴다. (호출한 스레드에서 읽는다)
+    default CompletableFuture<Void> streamWeather(Consumer<WeatherDto> consumer) {
+        try {
+            for (WeatherDto weatherDto : fetchWeather()) {
+                consumer.accept(weatherDto);
+            }
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.expert.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+// HttpClient 가 받는 대로 넘겨주는 바이트 조각을 Jackson non-blocking 파서에 흘려 넣고,
+// [{"date": "MM-dd", "weather": "..."}] 배열의 항목이 하나 완성될 때마다 consumer 에 넘긴다.
+// 문서 전체를 모으지 않으므로 앞쪽에 있는 항목은 응답 본문이 다 오기 전에 처리된다.
+class WeatherStreamParser implements Flow.Subscriber<List<ByteBuffer>> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Consumer<WeatherDto> consumer;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    private volatile Flow.Subscription subscription;
+    private int depth;
+    private int entries;
+    private String fieldName;
+    private String date;
+    private String weather;
+
+    WeatherStreamParser(Consumer<WeatherDto> consumer) {
+        this.consumer = consumer;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        // 시간 초과 등으로 밖에서 끝내면 남은 본문은 받지 않는다.
+        done.whenComplete((result, e) -> {
+            if (e != null && subscription != null) {
+                subscription.cancel();
+            }
+        });
+    }
+
+    CompletableFuture<Void> done() {
+        return done;
+    }
+
+    void fail(Throwable cause) {
+        done.completeExceptionally(cause);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> buffers) {
+        try {
+            for (ByteBuffer buffer : buffers) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                drain();
+            }
+            subscription.request(1);
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        fail(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        try {
+            feeder.endOfInput();
+            drain();
+        } catch (IOException | RuntimeException e) {
+            fail(e);
+            return;
+        }
+        if (entries == 0) {
+            fail(new ServerException("날씨 데이터가 없습니다."));
+            return;
+        }
+        done.complete(null);
+    }
+
+    // 지금까지 받은 바이트로 만들 수 있는 토큰을 모두 꺼낸다. 항목 객체는 배열 안(depth 2)에 있다.
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_ARRAY, START_OBJECT -> {
+                    depth++;
+                    if (depth == 2) {
+                        date = null;
+                        weather = null;
+                    }
+                }
+                case END_OBJECT -> {
+                    if (depth == 2) {
+                        entries++;
+                        consumer.accept(new WeatherDto(date, weather));
+                    }
+                    depth--;
+                }
+                case END_ARRAY -> depth--;
+                case FIELD_NAME -> fieldName = parser.currentName();
+                case VALUE_STRING -> {
+                    if (depth == 2 && "date".equals(fieldName)) {
+                        date = parser.getText();
+                    } else if (depth == 2 && "weather".equals(fieldName)) {
+                        weather = parser.getText();
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+    }
+}
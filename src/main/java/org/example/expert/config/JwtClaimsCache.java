@@ -0,0 +1,111 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 서명 검증이 끝난 claims 를 토큰 digest 기준으로 보관해서 같은 토큰의 HMAC 재검증을 건너뛴다.
+// 접근 순서로 정렬된 LinkedHashMap 이라 가득 차면 가장 오래 쓰이지 않은 토큰 하나만 O(1) 로 밀어낸다.
+@Component
+public class JwtClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final int maxSize;
+    private final Map<String, CachedClaims> cache;
+    // 조회도 접근 순서를 바꾸므로 읽기/쓰기 모두 잠근다. 잠금 안에서는 맵 연산만 하고 파싱은 밖에서 한다.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwtClaimsCache(JwtUtil jwtUtil, @Value("${jwt.claims-cache.max-size:10000}") int maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedClaims> eldest) {
+                return size() > JwtClaimsCache.this.maxSize;
+            }
+        };
+    }
+
+    public Claims getClaims(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            CachedClaims cached = cache.get(key);
+            if (cached != null) {
+                if (cached.expiresAt > now) {
+                    hits.increment();
+                    return cached.claims;
+                }
+                // 만료된 토큰은 다시 파싱해서 ExpiredJwtException 이 그대로 나가도록 한다.
+                cache.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        Claims claims = jwtUtil.extractClaims(token);
+        Date expiration = claims.getExpiration();
+        if (expiration != null && maxSize > 0) {
+            lock.lock();
+            try {
+                cache.put(key, new CachedClaims(claims, expiration.getTime()));
+            } finally {
+                lock.unlock();
+            }
+        }
+        return claims;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static class CachedClaims {
+
+        private final Claims claims;
+        private final long expiresAt;
+
+        private CachedClaims(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
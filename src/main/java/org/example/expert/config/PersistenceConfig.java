@@ -1,9 +1,60 @@
 package org.example.expert.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+@Slf4j(topic = "PersistenceConfig")
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    // 같은 테이블에 대한 insert/update 를 JDBC batch 로 묶는다. 모든 엔티티가 pooled 시퀀스로 id 를 받으므로 insert 도 묶인다.
+    // 일정 저장 시 cascade 되는 담당자처럼 테이블이 섞여 들어오는 경우에도 테이블별로 모이도록 정렬한다.
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${persistence.jdbc.batch-size:100}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 내보내기(TodoExportService)는 커서 세 개를 동시에 열어 한 건씩 읽는다. MySQL 드라이버는 useCursorFetch=true 가 없으면
+    // fetch size 를 무시하고 결과 전체를 메모리에 올리므로, 풀이 커넥션을 만들기 전에 드라이버 속성으로 켜 둔다.
+    @Bean
+    public static BeanPostProcessor mysqlCursorFetchPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    enableCursorFetch(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static void enableCursorFetch(HikariDataSource dataSource) {
+        String jdbcUrl = dataSource.getJdbcUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:mysql:")) {
+            return;
+        }
+        // URL 이나 설정에서 직접 정한 값은 덮어쓰지 않고, 꺼져 있으면 알린다.
+        Object configured = jdbcUrl.contains("useCursorFetch=")
+                ? jdbcUrl.substring(jdbcUrl.indexOf("useCursorFetch=") + "useCursorFetch=".length()).split("&")[0]
+                : dataSource.getDataSourceProperties().get("useCursorFetch");
+        if (configured == null) {
+            dataSource.addDataSourceProperty("useCursorFetch", "true");
+            log.info("MySQL 커넥션에 useCursorFetch=true 를 설정합니다.");
+        } else if (!"true".equalsIgnoreCase(configured.toString())) {
+            log.warn("MySQL useCursorFetch 가 꺼져 있어 일정 내보내기가 결과 전체를 메모리에 올립니다. useCursorFetch: " + configured);
+        }
+    }
 }
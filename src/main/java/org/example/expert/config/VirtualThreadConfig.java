@@ -0,0 +1,46 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateBuilderConfigurer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+
+// virtual-threads 프로필 전용 설정.
+// Tomcat/@Async/@Scheduled 는 spring.threads.virtual.enabled 로 넘어가고, 여기서는 RestTemplate 의 HTTP 클라이언트만 바꾼다.
+// HttpURLConnection 기반 기본 팩토리 대신 JDK HttpClient 를 쓰고, 내부 작업도 가상 스레드에서 돌린다.
+@Slf4j(topic = "VirtualThreadConfig")
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    public VirtualThreadConfig() {
+        // Java 17 에서 프로필만 켜면 가상 스레드 설정이 조용히 무시되므로 기동 단계에서 막는다.
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual-threads 프로필은 Java 21 이상이 필요합니다. 현재: " + Runtime.version());
+        }
+        log.info("가상 스레드 모드로 기동합니다.");
+    }
+
+    @Bean
+    public RestTemplateBuilder restTemplateBuilder(RestTemplateBuilderConfigurer configurer) {
+        return configurer.configure(new RestTemplateBuilder())
+                .requestFactory(settings -> {
+                    HttpClient.Builder httpClient = HttpClient.newBuilder()
+                            .executor(new VirtualThreadTaskExecutor("http-client-"));
+                    if (settings.connectTimeout() != null) {
+                        httpClient.connectTimeout(settings.connectTimeout());
+                    }
+                    JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient.build());
+                    if (settings.readTimeout() != null) {
+                        requestFactory.setReadTimeout(settings.readTimeout());
+                    }
+                    return requestFactory;
+                });
+    }
+}
@@ -2,14 +2,18 @@ package org.example.expert.domain.comment.commentcontroller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -28,8 +32,36 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/comments/bulk")
+    public ResponseEntity<List<CommentSaveResponse>> saveComments(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBulkSaveRequest commentBulkSaveRequest
+    ) {
+        return ResponseEntity.ok(commentService.saveComments(authUser, todoId, commentBulkSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // 폴링 대신 새 댓글을 SSE 로 받는다. 브라우저 EventSource 는 재접속할 때 Last-Event-ID 헤더로 마지막 댓글 id 를 보낸다.
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @PathVariable long todoId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long afterId
+    ) {
+        return commentService.subscribeComments(todoId, lastEventId != null ? lastEventId : afterId);
+    }
 }
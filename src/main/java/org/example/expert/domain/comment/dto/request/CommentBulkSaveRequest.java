@@ -0,0 +1,20 @@
+package org.example.expert.domain.comment.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentBulkSaveRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid CommentSaveRequest> comments;
+}
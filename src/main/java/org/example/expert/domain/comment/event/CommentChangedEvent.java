@@ -0,0 +1,14 @@
+package org.example.expert.domain.comment.event;
+
+import lombok.Getter;
+
+// 댓글이 등록/수정/삭제되었음을 알리는 도메인 이벤트. 댓글 내용을 색인하는 쪽에서 일정 단위로 다시 색인한다.
+@Getter
+public class CommentChangedEvent {
+
+    private final Long todoId;
+
+    public CommentChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -1,14 +1,43 @@
 package org.example.expert.domain.comment.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.dto.export.CommentExportRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId " +
+            "ORDER BY c.id")
+    List<CommentResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // idx_comments_todo_id_id 인덱스로 커서 위치부터 size + 1 건만 읽는다. 첫 페이지는 afterId = 0.
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.todo.id = :todoId AND c.id > :afterId " +
+            "ORDER BY c.id")
+    Slice<CommentResponse> findSliceByTodoIdAfter(@Param("todoId") Long todoId,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    // 검색 색인용. 일정 하나의 댓글 내용만 읽는다.
+    @Query("SELECT c.contents FROM Comment c WHERE c.todo.id = :todoId ORDER BY c.id")
+    List<String> findContentsByTodoId(@Param("todoId") Long todoId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.export.CommentExportRow(c.todo.id, c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u ORDER BY c.todo.id, c.id")
+    Stream<CommentExportRow> streamAllForExport();
 }
@@ -0,0 +1,27 @@
+package org.example.expert.domain.comment.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.event.CommentChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// 댓글 엔티티가 flush 되면 CommentChangedEvent 를 발행한다. todo 는 LAZY 프록시지만 id 만 읽으므로 초기화되지 않는다.
+@Component
+public class CommentChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CommentChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void publish(Comment comment) {
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getTodo().getId()));
+    }
+}
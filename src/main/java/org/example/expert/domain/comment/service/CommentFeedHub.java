@@ -0,0 +1,278 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 일정별 새 댓글을 SSE 구독자에게 나눠주는 허브. CommentService 가 커밋 이후에 새 댓글을 넣는다.
+// 구독자마다 크기가 정해진 버퍼를 두고, 버퍼가 가득 찰 만큼 느린 구독자는 끊는다.
+// 전송 스레드는 모든 구독자가 나눠 쓰므로 쓰기 한 번이 write-timeout 을 넘기면 그 구독자를 끊고 스레드를 돌려받는다.
+// 끊긴 클라이언트는 Last-Event-ID(마지막으로 받은 댓글 id)로 다시 붙어서 빠진 댓글을 DB 에서 받아간다.
+// 인스턴스 로컬 허브라 다른 인스턴스에서 등록된 댓글은 재접속 시 replay 로만 받는다.
+@Slf4j(topic = "CommentFeedHub")
+@Component
+public class CommentFeedHub {
+
+    private final Map<Long, Set<Subscriber>> subscribersByTodo = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService watchdog;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long writeTimeoutNanos;
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter writeTimeoutCounter;
+
+    public CommentFeedHub(MeterRegistry meterRegistry,
+                          @Value("${comment.feed.buffer-size:256}") int bufferSize,
+                          @Value("${comment.feed.max-subscribers:1000}") int maxSubscribers,
+                          @Value("${comment.feed.sender-threads:4}") int senderThreads,
+                          @Value("${comment.feed.timeout:PT5M}") Duration timeout,
+                          @Value("${comment.feed.write-timeout:PT5S}") Duration writeTimeout) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+        // 구독자마다 전송 작업은 최대 하나만 걸리므로 작업 큐는 구독자 수를 넘지 않는다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "comment-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deliveredCounter = meterRegistry.counter("comment.feed.delivered");
+        this.droppedCounter = meterRegistry.counter("comment.feed.dropped");
+        this.writeTimeoutCounter = meterRegistry.counter("comment.feed.write.timeout");
+        // 진행 중인 쓰기를 write-timeout 의 절반 주기로 살핀다.
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "comment-feed-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMillis = Math.max(10L, writeTimeout.toMillis() / 2);
+        this.watchdog.scheduleWithFixedDelay(this::abortStalledWrites, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        Gauge.builder("comment.feed.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // 구독을 먼저 걸어 두고(이때부터 들어오는 댓글은 버퍼에 쌓인다) 빠진 댓글을 읽은 뒤 start 를 호출한다.
+    public Subscriber subscribe(long todoId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("댓글 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        Subscriber subscriber = new Subscriber(todoId, createEmitter(timeoutMillis), new ArrayBlockingQueue<>(bufferSize));
+        subscribersByTodo.compute(todoId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            target.add(subscriber);
+            return target;
+        });
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        return subscriber;
+    }
+
+    // subscribe 와 start 사이에서 실패하면 emitter 가 MVC 로 넘어가지 않아 완료/타임아웃 콜백이 불리지 않으므로 직접 해제한다.
+    public void cancel(Subscriber subscriber, Exception cause) {
+        drop(subscriber, cause);
+    }
+
+    // 놓친 댓글을 먼저 보내고 버퍼에 쌓인 실시간 댓글을 이어서 보낸다. 둘 다에 있는 댓글은 한 번만 보낸다.
+    // 놓친 댓글이 너무 많으면 replay 하지 않고 resync 이벤트만 보내서 클라이언트가 커서 API 로 다시 읽게 한다.
+    public SseEmitter start(Subscriber subscriber, List<CommentResponse> missed, boolean truncated) {
+        try {
+            if (truncated) {
+                write(subscriber, SseEmitter.event().name("resync").data(""));
+            } else {
+                for (CommentResponse comment : missed) {
+                    send(subscriber, comment);
+                    subscriber.replayedIds.add(comment.getId());
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+            return subscriber.emitter;
+        }
+        subscriber.started = true;
+        scheduleSend(subscriber);
+        return subscriber.emitter;
+    }
+
+    public void publish(long todoId, List<CommentResponse> comments) {
+        Set<Subscriber> subscribers = subscribersByTodo.get(todoId);
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            for (CommentResponse comment : comments) {
+                if (!subscriber.buffer.offer(comment)) {
+                    droppedCounter.increment();
+                    drop(subscriber, null);
+                    break;
+                }
+            }
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.started && !subscriber.buffer.isEmpty() && subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            CommentResponse comment;
+            while ((comment = subscriber.buffer.poll()) != null) {
+                if (!subscriber.replayedIds.contains(comment.getId())) {
+                    send(subscriber, comment);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            drop(subscriber, e);
+            return;
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // 보내는 사이에 들어온 댓글이 있으면 다시 건다.
+        scheduleSend(subscriber);
+    }
+
+    private void send(Subscriber subscriber, CommentResponse comment) throws IOException {
+        write(subscriber, SseEmitter.event()
+                .id(String.valueOf(comment.getId()))
+                .name("comment")
+                .data(comment));
+        deliveredCounter.increment();
+    }
+
+    // 쓰는 동안 어느 스레드가 언제부터 쓰고 있는지 남겨 두어 watchdog 이 멈춘 쓰기를 찾을 수 있게 한다.
+    private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        synchronized (subscriber) {
+            subscriber.writer = Thread.currentThread();
+            subscriber.writeStartedNanos = System.nanoTime();
+        }
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            synchronized (subscriber) {
+                subscriber.writer = null;
+                // watchdog 의 interrupt 가 이 쓰기를 놓쳤더라도 다음 구독자의 쓰기로 번지지 않게 지운다.
+                Thread.interrupted();
+            }
+        }
+    }
+
+    // 멈춘 쓰기는 구독자 목록에서 먼저 빼고 쓰는 스레드를 깨운다. emitter 정리는 쓰기가 실패한 전송 스레드가 한다.
+    private void abortStalledWrites() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> subscribers : subscribersByTodo.values()) {
+            for (Subscriber subscriber : subscribers) {
+                boolean stalled;
+                synchronized (subscriber) {
+                    stalled = subscriber.writer != null && !subscriber.writeTimedOut
+                            && now - subscriber.writeStartedNanos > writeTimeoutNanos;
+                    if (stalled) {
+                        subscriber.writeTimedOut = true;
+                        subscriber.writer.interrupt();
+                    }
+                }
+                if (stalled) {
+                    writeTimeoutCounter.increment();
+                    if (remove(subscriber)) {
+                        log.info("댓글 구독자를 끊습니다. todoId: " + subscriber.todoId + " (쓰기 시간 초과)");
+                    }
+                }
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        if (remove(subscriber)) {
+            log.info("댓글 구독자를 끊습니다. todoId: " + subscriber.todoId + (cause == null ? " (버퍼 초과)" : " (" + cause.getMessage() + ")"));
+        }
+        subscriber.buffer.clear();
+        subscriber.emitter.complete();
+    }
+
+    // 구독 추가와 같은 키 단위로 원자적으로 지워야 빈 집합을 지우는 사이에 새 구독자가 사라지지 않는다.
+    private boolean remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribersByTodo.computeIfPresent(subscriber.todoId, (id, subscribers) -> {
+            removed.set(subscribers.remove(subscriber));
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        if (removed.get()) {
+            subscriberCount.decrementAndGet();
+        }
+        return removed.get();
+    }
+
+    // 테스트에서 보낸 이벤트를 기록하려고 분리해 둔다.
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        senders.shutdownNow();
+        subscribersByTodo.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByTodo.clear();
+    }
+
+    public static class Subscriber {
+
+        private final long todoId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CommentResponse> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // replay 로 이미 보낸 댓글. replay 중에 커밋된 댓글은 버퍼에도 들어오므로 걸러낸다.
+        private final Set<Long> replayedIds = new HashSet<>();
+        private volatile boolean started;
+        // 진행 중인 쓰기. subscriber 자신을 잠그고 읽고 쓴다.
+        private Thread writer;
+        private long writeStartedNanos;
+        private boolean writeTimedOut;
+
+        private Subscriber(long todoId, SseEmitter emitter, BlockingQueue<CommentResponse> buffer) {
+            this.todoId = todoId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
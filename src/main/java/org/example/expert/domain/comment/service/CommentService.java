@@ -2,20 +2,28 @@ package org.example.expert.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.transaction.AfterCommit;
 import org.example.expert.domain.manager.ManagerService;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -25,10 +33,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    // 재접속 시 이보다 많이 놓쳤으면 replay 대신 resync 이벤트를 보내 커서 API 로 다시 읽게 한다.
+    private static final int MAX_REPLAY_SIZE = 100;
+
     private final TodoRepository todoRepository;
 
     private final CommentRepository commentRepository;
     private final ManagerService managerService;
+    private final CommentFeedHub commentFeedHub;
+    private final SingleFlight singleFlight;
 
     private AuthService authService;
 
@@ -52,6 +66,9 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(newComment);
 
+        CommentResponse published = new CommentResponse(savedComment.getId(), savedComment.getContents(), user.getId(), user.getEmail());
+        AfterCommit.run(() -> commentFeedHub.publish(todoId, List.of(published)));
+
         return new CommentSaveResponse(
                 savedComment.getId(),
                 savedComment.getContents(),
@@ -59,19 +76,85 @@ public class CommentService {
         );
     }
 
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
-
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
+    // 여러 댓글을 한 번에 등록한다. 일정 조회와 담당자 확인은 한 번만 하고, 저장은 JDBC batch insert 로 묶인다.
+    @Transactional
+    public List<CommentSaveResponse> saveComments(AuthUser authUser, long todoId, CommentBulkSaveRequest commentBulkSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
+                new InvalidRequestException("Todo not found"));
+
+        if (!managerService.isManagerForTodo(user.getId(), todoId)) {
+            throw new InvalidRequestException("게시물에 허락받은 유저가 아니면 댓글달기 불가.");
+        }
+
+        List<Comment> newComments = new ArrayList<>(commentBulkSaveRequest.getComments().size());
+        for (CommentSaveRequest commentSaveRequest : commentBulkSaveRequest.getComments()) {
+            newComments.add(new Comment(commentSaveRequest.getContents(), user, todo));
+        }
+
+        List<Comment> savedComments = commentRepository.saveAll(newComments);
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<CommentSaveResponse> dtoList = new ArrayList<>(savedComments.size());
+        List<CommentResponse> published = new ArrayList<>(savedComments.size());
+        for (Comment savedComment : savedComments) {
+            dtoList.add(new CommentSaveResponse(savedComment.getId(), savedComment.getContents(), userResponse));
+            published.add(new CommentResponse(savedComment.getId(), savedComment.getContents(), userResponse));
         }
+        AfterCommit.run(() -> commentFeedHub.publish(todoId, published));
         return dtoList;
     }
+
+    // 같은 일정의 댓글 목록을 동시에 읽는 요청은 쿼리 하나로 합친다. (TodoService.getTodo 와 같은 이유로 트랜잭션 밖)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<CommentResponse> getComments(long todoId) {
+        return singleFlight.execute("comments", todoId, () -> commentRepository.findResponsesByTodoId(todoId));
+    }
+
+    // id 오름차순 커서 페이지. 커서는 직전 페이지 마지막 댓글의 id 이다.
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        long afterId = parseCursor(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        Slice<CommentResponse> comments = commentRepository.findSliceByTodoIdAfter(todoId, afterId, PageRequest.of(0, pageSize));
+
+        String nextCursor = null;
+        if (comments.hasNext()) {
+            nextCursor = String.valueOf(comments.getContent().get(comments.getNumberOfElements() - 1).getId());
+        }
+        return new CursorResponse<>(comments.getContent(), nextCursor, comments.hasNext());
+    }
+
+    // lastCommentId 이후의 댓글을 먼저 보내고, 이어서 새로 등록되는 댓글을 밀어준다.
+    public SseEmitter subscribeComments(long todoId, Long lastCommentId) {
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
+
+        // 구독을 먼저 걸어야 replay 를 읽는 사이에 커밋된 댓글이 빠지지 않는다.
+        CommentFeedHub.Subscriber subscriber = commentFeedHub.subscribe(todoId);
+        if (lastCommentId == null) {
+            return commentFeedHub.start(subscriber, List.of(), false);
+        }
+        Slice<CommentResponse> missed;
+        try {
+            missed = commentRepository.findSliceByTodoIdAfter(todoId, lastCommentId, PageRequest.of(0, MAX_REPLAY_SIZE));
+        } catch (RuntimeException e) {
+            // 걸어 둔 구독을 풀지 않으면 구독자 한도 한 칸이 영영 비지 않는다.
+            commentFeedHub.cancel(subscriber, e);
+            throw e;
+        }
+        return commentFeedHub.start(subscriber, missed.getContent(), missed.hasNext());
+    }
+
+    private long parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package org.example.expert.domain.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 (group, key) 로 동시에 들어온 조회를 하나로 합친다. 먼저 온 호출(leader)만 loader 를 실행하고,
+// 실행 중에 들어온 호출은 그 결과(또는 예외)를 그대로 나눠 받는다. 결과를 저장해두지는 않으므로 끝난 뒤 들어온 호출은 다시 실행한다.
+// 합쳐진 횟수는 group 태그별로 single.flight.calls{result=collapsed} 에 쌓인다. (일정 id 같은 key 는 태그로 쓰지 않는다)
+@Component
+public class SingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<CallKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaderCounters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> collapsedCounters = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("single.flight.in.flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String group, Object key, Supplier<T> loader) {
+        CallKey callKey = new CallKey(group, key);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(callKey, call);
+        if (existing != null) {
+            counter(collapsedCounters, group, "collapsed").increment();
+            return (T) await(existing);
+        }
+
+        counter(leaderCounters, group, "leader").increment();
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(callKey, call);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            // leader 가 던진 예외(InvalidRequestException 등)를 그대로 던져야 같은 응답이 나간다.
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String group, String result) {
+        return counters.computeIfAbsent(group, name -> Counter.builder("single.flight.calls")
+                .tag("group", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    private static final class CallKey {
+
+        private final String group;
+        private final Object key;
+
+        private CallKey(String group, Object key) {
+            this.group = group;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CallKey other)) {
+                return false;
+            }
+            return group.equals(other.group) && Objects.equals(key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * group.hashCode() + Objects.hashCode(key);
+        }
+    }
+}
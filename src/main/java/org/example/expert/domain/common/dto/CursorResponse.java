@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 넘겨주는 값, 마지막 페이지면 null
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
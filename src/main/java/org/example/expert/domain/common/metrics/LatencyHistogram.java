@@ -0,0 +1,128 @@
+package org.example.expert.domain.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// HDR 방식의 로그-선형 버킷 히스토그램. 2의 거듭제곱 구간마다 32개 하위 버킷을 두어 상대 오차를 약 3% 로 유지한다.
+// 기록은 AtomicLongArray 증가만 하므로 락 없이 여러 요청 스레드에서 동시에 호출할 수 있다.
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_TRACKABLE_VALUE = (1L << 36) - 1; // 마이크로초 기준 약 19시간
+    private static final int BUCKET_COUNT = indexFor(MAX_TRACKABLE_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong maxValue = new AtomicLong();
+
+    public void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_TRACKABLE_VALUE);
+        counts.incrementAndGet(indexFor(clamped));
+        maxValue.accumulateAndGet(clamped, Math::max);
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, maxValue.get());
+    }
+
+    // DB 에 저장해 둔 버킷 값을 다시 더해서 재시작 이전 분포를 이어간다.
+    public void add(Snapshot snapshot) {
+        long[] source = snapshot.counts;
+        for (int i = 0; i < Math.min(source.length, BUCKET_COUNT); i++) {
+            if (source[i] != 0) {
+                counts.addAndGet(i, source[i]);
+            }
+        }
+        maxValue.accumulateAndGet(snapshot.max, Math::max);
+    }
+
+    static int indexFor(long value) {
+        if (value < SUB_BUCKET_COUNT * 2) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+    }
+
+    // 버킷에 들어갈 수 있는 가장 큰 값
+    static long highestValueFor(int index) {
+        if (index < SUB_BUCKET_COUNT * 2) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final long max;
+        private final long totalCount;
+
+        public Snapshot(long[] counts, long max) {
+            this.counts = counts;
+            this.max = max;
+            long total = 0;
+            for (long count : counts) {
+                total += count;
+            }
+            this.totalCount = total;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long percentile(double percentile) {
+            if (totalCount == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= target) {
+                    return Math.min(highestValueFor(i), max);
+                }
+            }
+            return max;
+        }
+
+        // 0 이 아닌 버킷만 "index:count" 형태로 이어 붙인다.
+        public String encode() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    if (builder.length() > 0) {
+                        builder.append(',');
+                    }
+                    builder.append(i).append(':').append(counts[i]);
+                }
+            }
+            return builder.toString();
+        }
+
+        public static Snapshot decode(String encoded, long max) {
+            long[] counts = new long[BUCKET_COUNT];
+            if (encoded != null && !encoded.isEmpty()) {
+                for (String bucket : encoded.split(",")) {
+                    int separator = bucket.indexOf(':');
+                    int index = Integer.parseInt(bucket.substring(0, separator));
+                    if (index < BUCKET_COUNT) {
+                        counts[index] = Long.parseLong(bucket.substring(separator + 1));
+                    }
+                }
+            }
+            return new Snapshot(counts, max);
+        }
+    }
+}
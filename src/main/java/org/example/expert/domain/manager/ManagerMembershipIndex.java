@@ -0,0 +1,144 @@
+package org.example.expert.domain.manager;
+
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 일정별 담당자 userId 집합을 메모리에 들고 있어서 댓글 작성 권한 확인을 DB 조회 없이 처리한다.
+// 집합은 처음 조회될 때 한 번 읽어오고(없으면 빈 집합 = 담당자 아님), 담당자 등록/삭제는 커밋 이후 반영한다.
+// 전체 항목 수가 maxEntries 를 넘으면 가장 오래 조회되지 않은 일정부터 밀어낸다.
+@Component
+public class ManagerMembershipIndex {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate loadTransaction;
+    private final long maxEntries;
+    private final Map<Long, long[]> membersByTodo = new LinkedHashMap<>(256, 0.75f, true);
+    // 읽어오는 도중에 변경이 있었는지 판단하는 일정별(striped) 버전
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private long totalEntries;
+
+    public ManagerMembershipIndex(ManagerRepository managerRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${manager.index.max-entries:1000000}") long maxEntries) {
+        this.managerRepository = managerRepository;
+        // 호출한 쪽(saveComment 등) 트랜잭션의 스냅샷은 버전을 읽기 전에 잡혔을 수 있으므로 항상 새 트랜잭션에서 읽는다.
+        // REPEATABLE READ 에서 바깥 스냅샷으로 읽으면 버전 확인은 통과하는데 그 사이 커밋된 담당자가 빠진 집합이 올라간다.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean contains(long todoId, long userId) {
+        long[] members;
+        synchronized (membersByTodo) {
+            members = membersByTodo.get(todoId);
+        }
+        if (members == null) {
+            members = load(todoId);
+        }
+        return Arrays.binarySearch(members, userId) >= 0;
+    }
+
+    // 새 일정은 작성자만 담당자이므로 DB 를 읽지 않고 바로 완성된 집합으로 올린다.
+    public void registerNewTodo(Long todoId, Long authorId) {
+        AfterCommit.run(() -> {
+            versions.incrementAndGet(stripe(todoId));
+            synchronized (membersByTodo) {
+                put(todoId, new long[]{authorId});
+            }
+        });
+    }
+
+    public void addManager(long todoId, long userId) {
+        AfterCommit.run(() -> update(todoId, userId, true));
+    }
+
+    public void removeManager(long todoId, long userId) {
+        AfterCommit.run(() -> update(todoId, userId, false));
+    }
+
+    public long size() {
+        synchronized (membersByTodo) {
+            return totalEntries;
+        }
+    }
+
+    private long[] load(long todoId) {
+        long version = versions.get(stripe(todoId));
+        List<Long> userIds = loadTransaction.execute(status -> managerRepository.findUserIdsByTodoId(todoId));
+        long[] members = userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+
+        synchronized (membersByTodo) {
+            // 읽는 사이에 같은 stripe 에 변경이 있었다면 결과만 쓰고 올려두지 않는다.
+            if (versions.get(stripe(todoId)) == version && !membersByTodo.containsKey(todoId)) {
+                put(todoId, members);
+            }
+        }
+        return members;
+    }
+
+    private void update(long todoId, long userId, boolean add) {
+        versions.incrementAndGet(stripe(todoId));
+        synchronized (membersByTodo) {
+            long[] members = membersByTodo.get(todoId);
+            if (members == null) {
+                // 아직 올라오지 않은 일정은 다음 조회 때 DB 에서 읽는다.
+                return;
+            }
+            int index = Arrays.binarySearch(members, userId);
+            if (add && index < 0) {
+                int insertAt = -index - 1;
+                long[] updated = new long[members.length + 1];
+                System.arraycopy(members, 0, updated, 0, insertAt);
+                updated[insertAt] = userId;
+                System.arraycopy(members, insertAt, updated, insertAt + 1, members.length - insertAt);
+                put(todoId, updated);
+            } else if (!add && index >= 0) {
+                long[] updated = new long[members.length - 1];
+                System.arraycopy(members, 0, updated, 0, index);
+                System.arraycopy(members, index + 1, updated, index, members.length - index - 1);
+                put(todoId, updated);
+            }
+        }
+    }
+
+    // membersByTodo 락을 잡은 상태에서만 호출한다.
+    private void put(long todoId, long[] members) {
+        long[] previous = membersByTodo.put(todoId, members);
+        totalEntries += weight(members) - (previous == null ? 0 : weight(previous));
+
+        Iterator<Map.Entry<Long, long[]>> iterator = membersByTodo.entrySet().iterator();
+        while (totalEntries > maxEntries && iterator.hasNext()) {
+            Map.Entry<Long, long[]> eldest = iterator.next();
+            if (eldest.getKey() == todoId) {
+                continue;
+            }
+            totalEntries -= weight(eldest.getValue());
+            iterator.remove();
+        }
+    }
+
+    // 빈 집합(담당자 아님)도 한 칸을 차지하는 것으로 센다.
+    private long weight(long[] members) {
+        return Math.max(1, members.length);
+    }
+
+    private int stripe(long todoId) {
+        return (int) (Long.hashCode(todoId) & (VERSION_STRIPES - 1));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.expert.domain.manager;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -11,14 +12,16 @@ import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserCache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -29,6 +32,9 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final UserCache userCache;
+    private final ManagerMembershipIndex managerMembershipIndex;
+    private final SingleFlight singleFlight;
     private  JwtUtil jwtUtil;
 
     @Transactional
@@ -42,15 +48,17 @@ public class ManagerService {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+        UserSummary managerUser = userCache.findById(managerSaveRequest.getManagerUserId())
                 .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
 
         if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        // 존재 여부는 캐시로 확인했으므로 연관관계에는 프록시만 건다.
+        Manager newManagerUser = new Manager(userRepository.getReferenceById(managerUser.getId()), todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        managerMembershipIndex.addManager(todoId, managerUser.getId());
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -58,28 +66,24 @@ public class ManagerService {
         );
     }
 
+    // 같은 일정의 담당자 목록을 동시에 읽는 요청은 쿼리 하나로 합친다. (TodoService.getTodo 와 같은 이유로 트랜잭션 밖)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
-
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
-        }
-        return dtoList;
+        return singleFlight.execute("managers", todoId, () -> {
+            // 담당자가 있으면 일정도 있으므로, 일정 존재 여부는 결과가 비었을 때만 확인한다.
+            List<ManagerResponse> managers = managerRepository.findResponsesByTodoId(todoId);
+            if (managers.isEmpty() && !todoRepository.existsById(todoId)) {
+                throw new InvalidRequestException("Manager not found");
+            }
+            return managers;
+        });
     }
 
     @Transactional
     public void deleteManager(String bearerToken, long todoId, long managerId) {
         long userId = jwtUtil.extractUserIdFromToken(bearerToken);
 
-        User user = userRepository.findById(userId)
+        UserSummary user = userCache.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
         Todo todo = todoRepository.findById(todoId)
@@ -97,9 +101,10 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        managerMembershipIndex.removeManager(todoId, manager.getUser().getId());
     }
 
     public boolean isManagerForTodo(Long id, long todoId) {
-        return managerRepository.existsByUserIdAndTodoId(id, todoId);
+        return managerMembershipIndex.contains(todoId, id);
     }
 }
@@ -1,15 +1,32 @@
 package org.example.expert.domain.manager.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.export.ManagerExportRow;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u " +
+            "WHERE m.todo.id = :todoId " +
+            "ORDER BY m.id")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
 
     boolean existsByUserIdAndTodoId(Long id, long todoId);
+
+    @Query("SELECT m.user.id FROM Manager m WHERE m.todo.id = :todoId")
+    List<Long> findUserIdsByTodoId(@Param("todoId") Long todoId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new org.example.expert.domain.todo.dto.export.ManagerExportRow(m.todo.id, m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u ORDER BY m.todo.id, m.id")
+    Stream<ManagerExportRow> streamAllForExport();
 }
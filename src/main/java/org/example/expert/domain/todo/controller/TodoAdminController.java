@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoSearchRebuildResponse;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoSearchService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAdminController {
+
+    private final TodoExportService todoExportService;
+    private final TodoSearchService todoSearchService;
+
+    // 응답은 비동기 스레드에서 쓰이고, 트랜잭션도 그 스레드에서 열린다.
+    @GetMapping("/admin/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        StreamingResponseBody body = todoExportService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 일정/댓글 테이블을 커서로 읽어 검색 색인을 다시 만든다. 백그라운드에서 돌고, 끝날 때까지 기존 색인으로 검색된다.
+    @PostMapping("/admin/todos/search-index/rebuild")
+    public ResponseEntity<TodoSearchRebuildResponse> rebuildSearchIndex() {
+        return ResponseEntity.accepted().body(new TodoSearchRebuildResponse(todoSearchService.rebuildAsync()));
+    }
+}
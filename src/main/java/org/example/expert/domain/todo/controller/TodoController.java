@@ -4,19 +4,35 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.example.expert.domain.todo.service.TodoSearchService;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoViewService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoSearchService todoSearchService;
+    private final TodoViewService todoViewService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -29,13 +45,82 @@ public class TodoController {
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest
+    ) {
+        String eTag = todoService.getTodosETag();
+        if (eTag == null) {
+            return ResponseEntity.ok(todoService.getTodos(page, size));
+        }
+        // 목록이 바뀌지 않았으면 페이지를 읽거나 직렬화하지 않고 바로 304 를 돌려준다.
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CacheControl.noCache()).body(todoService.getTodos(page, size));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size));
+    }
+
+    // 점수 순으로 일정 id 만 돌려준다. 본문은 GET /todos/{todoId} 로 따로 읽는다.
+    @GetMapping("/todos/search")
+    public ResponseEntity<CursorResponse<TodoSearchHit>> searchTodos(
+            @RequestParam String query,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size));
+        return ResponseEntity.ok(todoSearchService.search(query, cursor, size));
     }
 
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // 조건부 요청이면 modifiedAt 만 읽어서 먼저 판단하고, 바뀌지 않았으면 일정을 불러오지 않는다.
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            Optional<LocalDateTime> modifiedAt = todoService.findTodoModifiedAt(todoId);
+            if (modifiedAt.isPresent()
+                    && webRequest.checkNotModified(todoETag(todoId, modifiedAt.get()), toEpochMilli(modifiedAt.get()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(todoETag(todoId, modifiedAt.get()))
+                        .lastModified(toEpochMilli(modifiedAt.get()))
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
+
+        TodoResponse todo = todoService.getTodo(todoId);
+        if (todo.getModifiedAt() == null) {
+            return ResponseEntity.ok(todo);
+        }
+        // 검증자는 실제로 내려주는 본문의 modifiedAt 으로 만든다.
+        return ResponseEntity.ok()
+                .eTag(todoETag(todoId, todo.getModifiedAt()))
+                .lastModified(toEpochMilli(todo.getModifiedAt()))
+                .cacheControl(CacheControl.noCache())
+                .body(todo);
+    }
+
+    // 일정 화면용. 일정, 담당자, 댓글 첫 페이지를 한 번에 돌려준다. 댓글 다음 페이지는 /todos/{todoId}/comments/cursor 로 읽는다.
+    @GetMapping("/todos/{todoId}/view")
+    public ResponseEntity<TodoViewResponse> getTodoView(
+            @PathVariable long todoId,
+            @RequestParam(defaultValue = "20") int commentSize
+    ) {
+        return ResponseEntity.ok(todoViewService.getTodoView(todoId, commentSize));
+    }
+
+    // Last-Modified 는 초 단위라 같은 초 안의 수정은 구분하지 못하므로, ETag 에는 modifiedAt 전체 정밀도를 담는다.
+    private static String todoETag(long todoId, LocalDateTime modifiedAt) {
+        Instant instant = modifiedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return "\"todo-" + todoId + "-" + instant.getEpochSecond() + "." + instant.getNano() + "\"";
+    }
+
+    private static long toEpochMilli(LocalDateTime modifiedAt) {
+        return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
@@ -0,0 +1,40 @@
+package org.example.expert.domain.todo.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 검색 결과 (score, id) 커서. 색인의 내부 문서 번호는 병합 때마다 바뀌므로 담지 않는다.
+@Getter
+public class TodoSearchCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final float score;
+    private final Long id;
+
+    public TodoSearchCursor(float score, Long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = Float.toString(score) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new TodoSearchCursor(
+                    Float.parseFloat(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.export;
+
+import lombok.Getter;
+
+// 내보내기용 댓글 한 줄. 엔티티를 영속성 컨텍스트에 올리지 않도록 생성자 표현식으로 바로 받는다.
+@Getter
+public class CommentExportRow {
+
+    private final Long todoId;
+    private final Long id;
+    private final String contents;
+    private final Long userId;
+    private final String email;
+
+    public CommentExportRow(Long todoId, Long id, String contents, Long userId, String email) {
+        this.todoId = todoId;
+        this.id = id;
+        this.contents = contents;
+        this.userId = userId;
+        this.email = email;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.export;
+
+import lombok.Getter;
+
+@Getter
+public class ManagerExportRow {
+
+    private final Long todoId;
+    private final Long id;
+    private final Long userId;
+    private final String email;
+
+    public ManagerExportRow(Long todoId, Long id, Long userId, String email) {
+        this.todoId = todoId;
+        this.id = id;
+        this.userId = userId;
+        this.email = email;
+    }
+}
@@ -25,4 +25,9 @@ public class TodoResponse {
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 표현식용. 엔티티 대신 응답에 필요한 컬럼만 읽어온다.
+    public TodoResponse(Long id, String title, String contents, String weather, Long userId, String email, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, new UserResponse(userId, email), createdAt, modifiedAt);
+    }
 }
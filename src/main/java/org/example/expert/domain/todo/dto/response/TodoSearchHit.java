@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchHit {
+
+    private final Long todoId;
+    private final float score;
+
+    public TodoSearchHit(Long todoId, float score) {
+        this.todoId = todoId;
+        this.score = score;
+    }
+}
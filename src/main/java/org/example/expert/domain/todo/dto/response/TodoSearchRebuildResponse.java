@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchRebuildResponse {
+
+    // false 면 이미 진행 중인 재색인이 있어 새로 시작하지 않았다.
+    private final boolean started;
+
+    public TodoSearchRebuildResponse(boolean started) {
+        this.started = started;
+    }
+}
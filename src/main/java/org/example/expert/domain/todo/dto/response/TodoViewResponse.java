@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoViewResponse {
+
+    private final TodoResponse todo;
+    private final List<ManagerResponse> managers;
+    private final CursorResponse<CommentResponse> comments; // 첫 페이지. 다음 페이지는 댓글 커서 API 로 이어서 읽는다.
+
+    public TodoViewResponse(TodoResponse todo, List<ManagerResponse> managers, CursorResponse<CommentResponse> comments) {
+        this.todo = todo;
+        this.managers = managers;
+        this.comments = comments;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.service.TodoChangePublisher;
 import org.example.expert.domain.user.entity.User;
 
 import java.util.ArrayList;
@@ -14,10 +15,16 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners(TodoChangePublisher.class)
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"))
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 비동기 날씨 보강 모드에서 날씨가 채워지기 전까지 저장해 두는 값
+    public static final String WEATHER_PENDING = "PENDING";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
@@ -0,0 +1,34 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+
+// 재시도를 모두 소진한 날씨 보강 작업 기록
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "weather_enrichment_dead_letter")
+public class WeatherEnrichmentDeadLetter extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "weather_enrichment_dead_letter_seq")
+    @SequenceGenerator(name = "weather_enrichment_dead_letter_seq", sequenceName = "weather_enrichment_dead_letter_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String reason;
+
+    public WeatherEnrichmentDeadLetter(Long todoId, int attempts, String reason) {
+        this.todoId = todoId;
+        this.attempts = attempts;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,14 @@
+package org.example.expert.domain.todo.event;
+
+import lombok.Getter;
+
+// 일정 목록 응답에 보이는 값(제목, 내용, 날씨, 수정일 등)이 바뀌었음을 알리는 도메인 이벤트
+@Getter
+public class TodoChangedEvent {
+
+    private final Long todoId;
+
+    public TodoChangedEvent(Long todoId) {
+        this.todoId = todoId;
+    }
+}
@@ -1,23 +1,58 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    // 조회 응답은 엔티티 대신 생성자 표현식으로 필요한 컬럼만 읽는다. (비밀번호 등 불필요한 컬럼, 영속성 컨텍스트 스냅샷 없음)
+    String TODO_RESPONSE = "SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @Query("SELECT t FROM Todo t " +
-            "LEFT JOIN FETCH t.user " +
-            "WHERE t.id = :todoId")
-    Optional<Todo> findByIdWithUser(@Param("todoId") Long todoId);
+    @Query(value = TODO_RESPONSE + "ORDER BY t.modifiedAt DESC",
+            countQuery = "SELECT count(t) FROM Todo t")
+    Page<TodoResponse> findResponsePage(Pageable pageable);
+
+    // 커서 모드 첫 페이지, Slice 반환이라 count 쿼리가 나가지 않는다.
+    @Query(TODO_RESPONSE + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findFirstResponseSlice(Pageable pageable);
+
+    // (modifiedAt, id) 키셋 조건으로 idx_todos_modified_at_id 인덱스를 타고 바로 다음 위치부터 읽는다.
+    @Query(TODO_RESPONSE +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoResponse> findResponseSliceAfterCursor(@Param("modifiedAt") LocalDateTime modifiedAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query(TODO_RESPONSE + "WHERE t.id = :todoId")
+    Optional<TodoResponse> findResponseById(@Param("todoId") Long todoId);
+
+    // 조건부 GET 판단용. PK 로 modifiedAt 한 컬럼만 읽고 엔티티나 작성자는 불러오지 않는다.
+    @Query("SELECT t.modifiedAt FROM Todo t WHERE t.id = :todoId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 내보내기용 forward-only 커서. id 순으로 읽어 댓글/담당자 커서와 병합한다.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.id")
+    Stream<Todo> streamAllForExport();
 }
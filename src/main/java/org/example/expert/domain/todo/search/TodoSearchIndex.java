@@ -0,0 +1,207 @@
+package org.example.expert.domain.todo.search;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// 일정 제목/내용/댓글을 일정 하나당 문서 하나로 담는 Lucene 역색인.
+// todo.search.index-path 가 비어 있으면 메모리에만 두고, 지정하면 로컬 디스크에 두어 재시작해도 유지된다.
+// 쓰기는 TodoSearchService 한 곳에서만 하고, 검색은 commit 이후 갱신되는 SearcherManager 로 읽는다.
+@Component
+public class TodoSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "id_sort";
+    private static final String GENERATION = "generation";
+    private static final String TITLE = "title";
+    private static final String CONTENTS = "contents";
+    private static final String COMMENTS = "comments";
+    private static final float TITLE_BOOST = 2.0f;
+
+    // 점수 순, 점수가 같으면 최근 일정(id 큰 쪽) 순. 커서는 이 두 값으로 만든다.
+    private static final Sort RANKING = new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+
+    // 공백/구두점 기준으로 자르는 기본 분석기. 한국어 조사까지 떼려면 nori 분석기로 바꾸면 된다.
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 재색인마다 올라가는 세대 번호. 재색인이 끝나면 이전 세대 문서(그 사이 지워진 일정)를 지운다.
+    // 디스크 색인은 재시작 후에도 남아 있으므로 시각을 기준으로 올려서 이전 실행의 세대보다 항상 크게 만든다.
+    private long generation = System.currentTimeMillis();
+
+    public TodoSearchIndex(@Value("${todo.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void update(long todoId, String title, String contents, List<String> comments) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(todoId), Field.Store.NO));
+        document.add(new NumericDocValuesField(ID_SORT, todoId));
+        document.add(new LongPoint(GENERATION, generation));
+        document.add(new TextField(TITLE, nullToEmpty(title), Field.Store.NO));
+        document.add(new TextField(CONTENTS, nullToEmpty(contents), Field.Store.NO));
+        for (String comment : comments) {
+            document.add(new TextField(COMMENTS, nullToEmpty(comment), Field.Store.NO));
+        }
+        try {
+            writer.updateDocument(new Term(ID, Long.toString(todoId)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(long todoId) {
+        try {
+            writer.deleteDocuments(new Term(ID, Long.toString(todoId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이후 update 되는 문서는 새 세대로 기록된다.
+    public void startGeneration() {
+        generation = Math.max(generation + 1, System.currentTimeMillis());
+    }
+
+    public void deletePreviousGenerations() {
+        try {
+            writer.deleteDocuments(LongPoint.newRangeQuery(GENERATION, Long.MIN_VALUE, generation - 1));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 디스크에 반영하고 검색 쪽에서 보이게 한다.
+    public void commit() {
+        try {
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    // afterScore/afterId 가 null 이면 첫 페이지. 다음 페이지 여부 판단을 위해 limit 만큼 읽는다.
+    public List<TodoSearchHit> search(String text, Float afterScore, Long afterId, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs;
+                if (afterScore == null) {
+                    topDocs = searcher.search(query, limit, RANKING, true);
+                } else {
+                    // 같은 (score, id) 문서는 이미 내려준 문서이므로 문서 번호를 마지막 번호로 두어 제외한다.
+                    int lastDoc = searcher.getIndexReader().maxDoc() - 1;
+                    FieldDoc after = new FieldDoc(lastDoc, afterScore, new Object[]{afterScore, afterId});
+                    topDocs = searcher.searchAfter(after, query, limit, RANKING, true);
+                }
+
+                List<TodoSearchHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    FieldDoc fieldDoc = (FieldDoc) scoreDoc;
+                    hits.add(new TodoSearchHit((Long) fieldDoc.fields[1], (Float) fieldDoc.fields[0]));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new ServerException("검색 색인을 읽지 못했습니다.");
+        }
+    }
+
+    // 검색어를 필드별 분석기로 잘라 어느 필드든 하나라도 맞으면 걸리도록(OR) 묶는다. 제목에 맞으면 점수를 더 준다.
+    private Query buildQuery(String text) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        boolean hasClause = false;
+        for (String field : List.of(TITLE, CONTENTS, COMMENTS)) {
+            for (String term : analyze(field, text)) {
+                Query termQuery = new TermQuery(new Term(field, term));
+                if (TITLE.equals(field)) {
+                    termQuery = new BoostQuery(termQuery, TITLE_BOOST);
+                }
+                builder.add(termQuery, BooleanClause.Occur.SHOULD);
+                hasClause = true;
+            }
+        }
+        return hasClause ? builder.build() : null;
+    }
+
+    private Set<String> analyze(String field, String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(field, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+// todo id 오름차순 커서에서 다음 행을 꺼내지 않고 들여다볼 수 있게 한다.
+// 일정 커서와 댓글/담당자 커서를 병합할 때 쓴다.
+class PeekingCursor<T> {
+
+    private final Iterator<T> iterator;
+    private final ToLongFunction<T> todoIdOf;
+    private T head;
+
+    PeekingCursor(Iterator<T> iterator, ToLongFunction<T> todoIdOf) {
+        this.iterator = iterator;
+        this.todoIdOf = todoIdOf;
+        this.head = iterator.hasNext() ? iterator.next() : null;
+    }
+
+    boolean isAt(long todoId) {
+        return head != null && todoIdOf.applyAsLong(head) == todoId;
+    }
+
+    // 읽는 도중에 생긴 행처럼 대응하는 일정이 없는 행은 건너뛴다.
+    void skipBefore(long todoId) {
+        while (head != null && todoIdOf.applyAsLong(head) < todoId) {
+            next();
+        }
+    }
+
+    T next() {
+        T current = head;
+        head = iterator.hasNext() ? iterator.next() : null;
+        return current;
+    }
+}
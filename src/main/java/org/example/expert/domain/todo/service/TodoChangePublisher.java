@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// saveTodo 로 저장되거나 Todo.update 로 바뀐 엔티티가 flush 되면 TodoChangedEvent 를 발행한다.
+// 받는 쪽은 @TransactionalEventListener 로 커밋 이후에만 반응하므로 롤백된 변경은 무시된다.
+@Component
+public class TodoChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoChangePublisher(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void publish(Todo todo) {
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId()));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.export.CommentExportRow;
+import org.example.expert.domain.todo.dto.export.ManagerExportRow;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// 일정 + 담당자 + 댓글을 일정 하나당 한 줄(NDJSON)로 내보낸다.
+// 세 테이블을 todo id 순으로 정렬된 커서 세 개로 열고 병합하므로, 데이터 크기와 상관없이 메모리에는 현재 일정 한 건만 남는다.
+// MySQL 은 useCursorFetch=true 가 있어야 fetch size 를 지키고 같은 커넥션에서 커서를 여러 개 열 수 있다. PersistenceConfig 가 켜 둔다.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TodoExportService {
+
+    // 이 개수만큼 쓸 때마다 영속성 컨텍스트에 쌓인 일정/작성자 엔티티를 비운다.
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public void export(OutputStream outputStream) throws IOException {
+        try (Stream<Todo> todos = todoRepository.streamAllForExport();
+             Stream<ManagerExportRow> managers = managerRepository.streamAllForExport();
+             Stream<CommentExportRow> comments = commentRepository.streamAllForExport();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            PeekingCursor<ManagerExportRow> managerCursor = new PeekingCursor<>(managers.iterator(), ManagerExportRow::getTodoId);
+            PeekingCursor<CommentExportRow> commentCursor = new PeekingCursor<>(comments.iterator(), CommentExportRow::getTodoId);
+
+            int written = 0;
+            Iterator<Todo> todoIterator = todos.iterator();
+            while (todoIterator.hasNext()) {
+                writeTodo(generator, todoIterator.next(), managerCursor, commentCursor);
+                if (++written % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            if (written > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeTodo(JsonGenerator generator,
+                           Todo todo,
+                           PeekingCursor<ManagerExportRow> managerCursor,
+                           PeekingCursor<CommentExportRow> commentCursor) throws IOException {
+        long todoId = todo.getId();
+
+        generator.writeStartObject();
+        generator.writeNumberField("id", todoId);
+        generator.writeStringField("title", todo.getTitle());
+        generator.writeStringField("contents", todo.getContents());
+        generator.writeStringField("weather", todo.getWeather());
+        writeUser(generator, todo.getUser().getId(), todo.getUser().getEmail());
+        generator.writeObjectField("createdAt", todo.getCreatedAt());
+        generator.writeObjectField("modifiedAt", todo.getModifiedAt());
+
+        generator.writeArrayFieldStart("managers");
+        managerCursor.skipBefore(todoId);
+        while (managerCursor.isAt(todoId)) {
+            ManagerExportRow manager = managerCursor.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", manager.getId());
+            writeUser(generator, manager.getUserId(), manager.getEmail());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("comments");
+        commentCursor.skipBefore(todoId);
+        while (commentCursor.isAt(todoId)) {
+            CommentExportRow comment = commentCursor.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", comment.getId());
+            generator.writeStringField("contents", comment.getContents());
+            writeUser(generator, comment.getUserId(), comment.getEmail());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    private void writeUser(JsonGenerator generator, Long userId, String email) throws IOException {
+        generator.writeObjectFieldStart("user");
+        generator.writeNumberField("id", userId);
+        generator.writeStringField("email", email);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// GET /todos 앞쪽 몇 페이지를 (page, size) 별로 들고 있는 캐시.
+// 일정이 바뀔 때마다 버전을 올리고 비우며, ETag 는 이 버전으로 만들어서 본문을 만들지 않고도 304 를 판단할 수 있다.
+// 인스턴스 로컬 캐시라 다른 인스턴스의 쓰기는 알 수 없다. ETag 에 기동 시각을 넣어 인스턴스끼리 값이 겹치지 않게 한다.
+@Component
+public class TodoListCache {
+
+    private final boolean enabled;
+    private final int maxPages;
+    private final int maxPageSize;
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Long, CachedPage> cache = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TodoListCache(MeterRegistry meterRegistry,
+                         @Value("${todo.list-cache.enabled:true}") boolean enabled,
+                         @Value("${todo.list-cache.max-pages:5}") int maxPages,
+                         @Value("${todo.list-cache.max-page-size:100}") int maxPageSize) {
+        this.enabled = enabled;
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+        this.hitCounter = meterRegistry.counter("todo.list.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.list.cache.requests", "result", "miss");
+        Gauge.builder("todo.list.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    public Page<TodoResponse> get(int page, int size, Supplier<Page<TodoResponse>> loader) {
+        if (!enabled || page < 1 || page > maxPages || size < 1 || size > maxPageSize) {
+            return loader.get();
+        }
+
+        long key = ((long) page << 32) | size;
+        long currentVersion = version.get();
+        CachedPage cached = cache.get(key);
+        if (cached != null && cached.version == currentVersion) {
+            hitCounter.increment();
+            return cached.page;
+        }
+
+        missCounter.increment();
+        Page<TodoResponse> loaded = loader.get();
+        // 읽는 동안 무효화가 일어났다면 옛 버전으로 올려두지 않는다.
+        if (version.get() == currentVersion) {
+            cache.put(key, new CachedPage(currentVersion, loaded));
+        }
+        return loaded;
+    }
+
+    // 목록 내용은 버전이 같으면 (page, size) 마다 항상 같으므로 페이지를 읽기 전에 ETag 를 정할 수 있다.
+    public String currentETag() {
+        if (!enabled) {
+            return null;
+        }
+        return "\"todos-" + instanceId + "-" + version.get() + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        cache.clear();
+    }
+
+    private static class CachedPage {
+
+        private final long version;
+        private final Page<TodoResponse> page;
+
+        private CachedPage(long version, Page<TodoResponse> page) {
+            this.version = version;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.event.CommentChangedEvent;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.todo.dto.TodoSearchCursor;
+import org.example.expert.domain.todo.dto.export.CommentExportRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// 일정/댓글 변경 이벤트를 받아 바뀐 일정 id 만 모아 두었다가 주기적으로 한 번에 다시 색인한다.
+// 같은 일정이 여러 번 바뀌어도(댓글 일괄 등록 등) 한 번만 색인하고, 색인은 항상 DB 의 최신 값을 읽어서 만든다.
+// 재색인은 일정/댓글 테이블을 todo id 순 커서로 병합하며 읽고, 도는 동안 들어온 변경은 끝난 뒤에 반영한다.
+// 관리자 API 의 재색인은 전용 스레드에서 돌고, 그동안 증분 색인은 스케줄러 스레드를 붙잡지 않고 다음 주기로 미룬다.
+@Slf4j(topic = "TodoSearchService")
+@Service
+public class TodoSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    // 이 개수만큼 색인할 때마다 영속성 컨텍스트에 쌓인 일정 엔티티를 비운다.
+    private static final int CLEAR_INTERVAL = 500;
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Set<Long> pendingTodoIds = ConcurrentHashMap.newKeySet();
+    // 색인 쓰기와 재색인은 DB/디스크 I/O 를 하는 동안 잠그므로 synchronized 대신 ReentrantLock 을 쓴다. (가상 스레드 고정 방지)
+    private final ReentrantLock indexLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-search-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TodoSearchService(TodoSearchIndex todoSearchIndex,
+                             TodoRepository todoRepository,
+                             CommentRepository commentRepository,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${todo.search.enabled:true}") boolean enabled) {
+        this.todoSearchIndex = todoSearchIndex;
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    public CursorResponse<TodoSearchHit> search(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidRequestException("검색어는 " + MAX_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        Float afterScore = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            TodoSearchCursor searchCursor = TodoSearchCursor.decode(cursor);
+            afterScore = searchCursor.getScore();
+            afterId = searchCursor.getId();
+        }
+
+        // 다음 페이지가 있는지 보려고 한 건 더 읽는다.
+        List<TodoSearchHit> hits = todoSearchIndex.search(query, afterScore, afterId, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<TodoSearchHit> content = hasNext ? hits.subList(0, pageSize) : hits;
+
+        String nextCursor = null;
+        if (hasNext) {
+            TodoSearchHit last = content.get(content.size() - 1);
+            nextCursor = new TodoSearchCursor(last.getScore(), last.getTodoId()).encode();
+        }
+        return new CursorResponse<>(new ArrayList<>(content), nextCursor, hasNext);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (enabled) {
+            pendingTodoIds.add(event.getTodoId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (enabled) {
+            pendingTodoIds.add(event.getTodoId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.search.refresh-interval-ms:1000}")
+    public void flushPending() {
+        if (pendingTodoIds.isEmpty()) {
+            return;
+        }
+
+        // 재색인 중이면 남은 id 는 그대로 두고 다음 주기에 반영한다.
+        if (!indexLock.tryLock()) {
+            return;
+        }
+        List<Long> failedTodoIds = new ArrayList<>();
+        try {
+            Iterator<Long> iterator = pendingTodoIds.iterator();
+            while (iterator.hasNext()) {
+                Long todoId = iterator.next();
+                iterator.remove();
+                try {
+                    reindex(todoId);
+                } catch (Exception e) {
+                    // 이 일정만 다음 주기에 다시 시도하고 나머지는 계속 색인한다.
+                    log.error("검색 색인 갱신 실패. todoId: " + todoId, e);
+                    failedTodoIds.add(todoId);
+                }
+            }
+            todoSearchIndex.commit();
+        } finally {
+            // 도는 중에 다시 넣으면 같은 순회에서 또 만날 수 있으므로 끝난 뒤에 돌려놓는다.
+            pendingTodoIds.addAll(failedTodoIds);
+            indexLock.unlock();
+        }
+    }
+
+    private void reindex(long todoId) {
+        Optional<TodoResponse> todo = todoRepository.findResponseById(todoId);
+        if (todo.isEmpty()) {
+            todoSearchIndex.delete(todoId);
+            return;
+        }
+        todoSearchIndex.update(todoId, todo.get().getTitle(), todo.get().getContents(),
+                commentRepository.findContentsByTodoId(todoId));
+    }
+
+    // 재색인을 전용 스레드에 맡기고 바로 돌아온다. 이미 도는 중이면 새로 시작하지 않고 false 를 돌려준다.
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (Exception e) {
+                    log.error("검색 색인 재구성 실패", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+            throw new ServiceUnavailableException("검색 색인을 재구성할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return true;
+    }
+
+    public long rebuild() {
+        indexLock.lock();
+        try {
+            todoSearchIndex.startGeneration();
+            Long indexed = readOnlyTransaction.execute(status -> indexAll());
+            // 이번 재색인에서 다시 쓰이지 않은 문서는 그 사이 지워진 일정이다.
+            todoSearchIndex.deletePreviousGenerations();
+            todoSearchIndex.commit();
+            log.info("검색 색인 재구성 완료. 일정 수: " + indexed);
+            return indexed == null ? 0 : indexed;
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    private long indexAll() {
+        long indexed = 0;
+        try (Stream<Todo> todos = todoRepository.streamAllForExport();
+             Stream<CommentExportRow> comments = commentRepository.streamAllForExport()) {
+            PeekingCursor<CommentExportRow> commentCursor = new PeekingCursor<>(comments.iterator(), CommentExportRow::getTodoId);
+
+            Iterator<Todo> todoIterator = todos.iterator();
+            while (todoIterator.hasNext()) {
+                Todo todo = todoIterator.next();
+                long todoId = todo.getId();
+
+                List<String> commentContents = new ArrayList<>();
+                commentCursor.skipBefore(todoId);
+                while (commentCursor.isAt(todoId)) {
+                    commentContents.add(commentCursor.next().getContents());
+                }
+                todoSearchIndex.update(todoId, todo.getTitle(), todo.getContents(), commentContents);
+
+                if (++indexed % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return indexed;
+    }
+
+    // 메모리 색인이거나 디스크 색인이 처음 만들어졌으면 기동 직후 한 번 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (enabled && todoSearchIndex.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -3,7 +3,11 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.ManagerMembershipIndex;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
@@ -14,22 +18,35 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final WeatherEnrichmentPipeline weatherEnrichmentPipeline;
+    private final ManagerMembershipIndex managerMembershipIndex;
+    private final TodoListCache todoListCache;
+    private final SingleFlight singleFlight;
 
     @Transactional
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
+        // 비동기 보강 모드면 외부 날씨 호출을 기다리지 않고 먼저 저장한다.
+        boolean enrichLater = weatherEnrichmentPipeline.isEnabled();
+        String weather = enrichLater ? Todo.WEATHER_PENDING : weatherClient.getTodayWeather();
 
         Todo newTodo = new Todo(
                 todoSaveRequest.getTitle(),
@@ -38,6 +55,11 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        // Todo 생성자가 작성자를 담당자로 함께 저장하므로 인덱스에도 반영한다.
+        managerMembershipIndex.registerNewTodo(savedTodo.getId(), user.getId());
+        if (enrichLater) {
+            weatherEnrichmentPipeline.enqueue(savedTodo.getId());
+        }
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -51,33 +73,41 @@ public class TodoService {
     public Page<TodoResponse> getTodos(int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        return todoListCache.get(page, size, () -> todoRepository.findResponsePage(pageable));
+    }
+
+    public String getTodosETag() {
+        return todoListCache.currentETag();
     }
 
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE));
+
+        Slice<TodoResponse> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstResponseSlice(pageable);
+        } else {
+            TodoCursor todoCursor = TodoCursor.decode(cursor);
+            todos = todoRepository.findResponseSliceAfterCursor(todoCursor.getModifiedAt(), todoCursor.getId(), pageable);
+        }
+
+        String nextCursor = null;
+        if (todos.hasNext()) {
+            TodoResponse last = todos.getContent().get(todos.getNumberOfElements() - 1);
+            nextCursor = new TodoCursor(last.getModifiedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(todos.getContent(), nextCursor, todos.hasNext());
+    }
+
+    public Optional<LocalDateTime> findTodoModifiedAt(long todoId) {
+        return todoRepository.findModifiedAtById(todoId);
+    }
+
+    // 같은 일정을 동시에 읽는 요청은 쿼리 하나로 합친다.
+    // 기다리는 쪽이 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 합치고, 쿼리는 리포지토리 트랜잭션에서 실행된다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        return singleFlight.execute("todo", todoId, () -> todoRepository.findResponseById(todoId)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
     }
 }
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 일정 화면 하나를 그리는 데 필요한 일정(+작성자), 담당자, 댓글 첫 페이지를 한 번에 돌려준다.
+// 쿼리는 항상 세 개이고, 셋 다 별도 스레드에서 각자의 읽기 트랜잭션(커넥션)으로 동시에 읽는다.
+// 요청 스레드에서는 JPA 를 건드리지 않는다. open-in-view 가 켜져 있으면 요청 스레드가 한 번 얻은 커넥션을 요청이 끝날 때까지 쥐고 있으므로,
+// 그 상태로 다른 커넥션이 필요한 작업을 기다리면 동시 요청 수가 풀 크기에 닿는 순간 서로 커넥션을 기다리며 멈춘다.
+// 일정 존재 여부는 일정 조회 결과로 판단하므로 담당자/댓글 쪽에서 다시 확인하지 않는다.
+// 세 쿼리는 서로 다른 트랜잭션이라 그 사이에 커밋된 변경은 일부에만 보일 수 있다. (화면 조회 용도라 허용)
+@Service
+public class TodoViewService {
+
+    private final TodoService todoService;
+    private final ManagerRepository managerRepository;
+    private final CommentService commentService;
+    private final ThreadPoolExecutor viewExecutor;
+
+    public TodoViewService(TodoService todoService,
+                           ManagerRepository managerRepository,
+                           CommentService commentService,
+                           @Value("${todo.view.threads:8}") int threads,
+                           @Value("${todo.view.queue-capacity:64}") int queueCapacity) {
+        this.todoService = todoService;
+        this.managerRepository = managerRepository;
+        this.commentService = commentService;
+
+        AtomicInteger sequence = new AtomicInteger();
+        // 풀이 가득 차도 요청 스레드에서 대신 읽지 않고 거절한다. (요청 스레드가 커넥션을 쥐게 되므로)
+        this.viewExecutor = new ThreadPoolExecutor(
+                threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-view-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.viewExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public TodoViewResponse getTodoView(long todoId, int commentSize) {
+        CompletableFuture<TodoResponse> todo = submit(() -> todoService.getTodo(todoId));
+        CompletableFuture<List<ManagerResponse>> managers = submit(() -> managerRepository.findResponsesByTodoId(todoId));
+        CompletableFuture<CursorResponse<CommentResponse>> comments =
+                submit(() -> commentService.getCommentsByCursor(todoId, null, commentSize));
+
+        // 일정이 없으면 여기서 InvalidRequestException 이 나간다. 나머지 두 쿼리는 빈 결과로 끝난다.
+        return new TodoViewResponse(await(todo), await(managers), await(comments));
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        try {
+            return CompletableFuture.supplyAsync(query, viewExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        viewExecutor.shutdown();
+    }
+}
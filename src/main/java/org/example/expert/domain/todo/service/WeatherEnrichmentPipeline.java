@@ -0,0 +1,246 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.WeatherEnrichmentDeadLetter;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.WeatherEnrichmentDeadLetterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 일정은 날씨 없이(PENDING) 먼저 저장하고, 날씨는 백그라운드 워커가 모아서 한 번에 채운다.
+// 큐가 가득 차거나 재시작으로 작업이 유실돼도 주기적인 sweep 이 PENDING 상태의 일정을 다시 큐에 넣는다.
+// 큐에 있거나 처리 중이거나 재시도를 기다리는 일정은 sweep 이 다시 넣지 않는다. (재시도 흐름이 두 갈래로 갈라지지 않도록)
+@Slf4j(topic = "WeatherEnrichmentPipeline")
+@Component
+public class WeatherEnrichmentPipeline {
+
+    private static final String ENRICH_SQL =
+            "UPDATE todos SET weather = ?, modified_at = ? WHERE id = ? AND weather = ?";
+    private static final String FIND_PENDING_SQL =
+            "SELECT t.id FROM todos t WHERE t.weather = ? AND t.created_at < ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM weather_enrichment_dead_letter d WHERE d.todo_id = t.id) " +
+                    "ORDER BY t.id LIMIT ?";
+
+    private final WeatherClient weatherClient;
+    private final JdbcTemplate jdbcTemplate;
+    private final WeatherEnrichmentDeadLetterRepository deadLetterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final BlockingQueue<EnrichmentTask> queue;
+    private final Set<Long> trackedTodoIds = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService workers;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    public WeatherEnrichmentPipeline(WeatherClient weatherClient,
+                                     JdbcTemplate jdbcTemplate,
+                                     WeatherEnrichmentDeadLetterRepository deadLetterRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${todo.weather-enrichment.async:false}") boolean enabled,
+                                     @Value("${todo.weather-enrichment.workers:2}") int workerCount,
+                                     @Value("${todo.weather-enrichment.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${todo.weather-enrichment.batch-size:100}") int batchSize,
+                                     @Value("${todo.weather-enrichment.max-attempts:5}") int maxAttempts,
+                                     @Value("${todo.weather-enrichment.retry-backoff:PT1S}") Duration retryBackoff) {
+        this.weatherClient = weatherClient;
+        this.jdbcTemplate = jdbcTemplate;
+        this.deadLetterRepository = deadLetterRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "weather-enrichment-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "weather-enrichment-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (workers != null) {
+            workers.shutdownNow();
+            retryScheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 커밋 이후에만 큐에 넣어서 워커가 아직 보이지 않는 행을 갱신하려 하지 않도록 한다.
+    public void enqueue(long todoId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> track(todoId));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.weather-enrichment.sweep-interval-ms:60000}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        Timestamp createdBefore = Timestamp.valueOf(LocalDateTime.now().minusMinutes(1));
+        List<Long> pendingIds = jdbcTemplate.queryForList(
+                FIND_PENDING_SQL, Long.class, Todo.WEATHER_PENDING, createdBefore, queue.remainingCapacity());
+        for (Long todoId : pendingIds) {
+            track(todoId);
+        }
+    }
+
+    private void track(long todoId) {
+        if (trackedTodoIds.add(todoId)) {
+            offer(new EnrichmentTask(todoId, 0));
+        }
+    }
+
+    private void offer(EnrichmentTask task) {
+        if (!queue.offer(task)) {
+            trackedTodoIds.remove(task.todoId);
+            log.warn("날씨 보강 큐가 가득 찼습니다. 다음 sweep 에서 다시 처리합니다. todoId: " + task.todoId);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                EnrichmentTask first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<EnrichmentTask> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("날씨 보강 워커 오류", e);
+            }
+        }
+    }
+
+    void process(List<EnrichmentTask> batch) {
+        String weather;
+        try {
+            weather = weatherClient.getTodayWeather();
+        } catch (Exception e) {
+            retryOrDeadLetter(batch, e);
+            return;
+        }
+
+        // 같은 날 생성된 일정은 날씨가 같으므로 한 번의 배치 UPDATE 로 반영한다.
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(ENRICH_SQL, batch, batch.size(), (ps, task) -> {
+                ps.setString(1, weather);
+                ps.setTimestamp(2, now);
+                ps.setLong(3, task.todoId);
+                ps.setString(4, Todo.WEATHER_PENDING);
+            });
+        } finally {
+            // UPDATE 가 실패했으면 PENDING 으로 남으므로 다음 sweep 이 다시 넣는다.
+            release(batch);
+        }
+        // JDBC 로 바로 갱신해서 엔티티 리스너를 거치지 않으므로 변경 이벤트를 직접 발행한다.
+        for (EnrichmentTask task : batch) {
+            eventPublisher.publishEvent(new TodoChangedEvent(task.todoId));
+        }
+    }
+
+    private void retryOrDeadLetter(List<EnrichmentTask> batch, Exception cause) {
+        List<WeatherEnrichmentDeadLetter> deadLetters = new ArrayList<>();
+        for (EnrichmentTask task : batch) {
+            int attempts = task.attempt + 1;
+            if (attempts < maxAttempts) {
+                long delay = retryBackoff.toMillis() << Math.min(task.attempt, 10);
+                retryScheduler.schedule(() -> offer(new EnrichmentTask(task.todoId, attempts)), delay, TimeUnit.MILLISECONDS);
+            } else {
+                deadLetters.add(new WeatherEnrichmentDeadLetter(task.todoId, attempts, abbreviate(cause.getMessage())));
+            }
+        }
+        if (!deadLetters.isEmpty()) {
+            log.error("날씨 보강 재시도 횟수 초과. dead letter 로 이동합니다. 건수: " + deadLetters.size(), cause);
+            try {
+                deadLetterRepository.saveAll(deadLetters);
+            } finally {
+                deadLetters.forEach(deadLetter -> trackedTodoIds.remove(deadLetter.getTodoId()));
+            }
+        }
+    }
+
+    private void release(List<EnrichmentTask> batch) {
+        for (EnrichmentTask task : batch) {
+            trackedTodoIds.remove(task.todoId);
+        }
+    }
+
+    private String abbreviate(String message) {
+        if (message == null || message.length() <= 500) {
+            return message;
+        }
+        return message.substring(0, 500);
+    }
+
+    static class EnrichmentTask {
+
+        private final long todoId;
+        private final int attempt;
+
+        EnrichmentTask(long todoId, int attempt) {
+            this.todoId = todoId;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.dto.response.ApiLatencyResponse;
+import org.example.expert.domain.user.service.ApiLatencyService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class ApiLatencyAdminController {
+
+    private final ApiLatencyService apiLatencyService;
+
+    @GetMapping("/admin/api-latency")
+    public ResponseEntity<List<ApiLatencyResponse>> getApiLatencies() {
+        return ResponseEntity.ok(apiLatencyService.getLatencies());
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.user.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.user.enums.UserRole;
+
+// 캐시에 올려두는 유저 정보. 비밀번호는 담지 않는다.
+@Getter
+public class UserSummary {
+
+    private final Long id;
+    private final String email;
+    private final UserRole userRole;
+
+    public UserSummary(Long id, String email, UserRole userRole) {
+        this.id = id;
+        this.email = email;
+        this.userRole = userRole;
+    }
+}
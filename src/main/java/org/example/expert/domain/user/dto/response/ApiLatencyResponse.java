@@ -0,0 +1,26 @@
+package org.example.expert.domain.user.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class ApiLatencyResponse {
+
+    private final String endpoint;
+    private final Long userId;
+    private final long count;
+    // 이하 단위는 마이크로초
+    private final long p50;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    public ApiLatencyResponse(String endpoint, Long userId, long count, long p50, long p99, long p999, long max) {
+        this.endpoint = endpoint;
+        this.userId = userId;
+        this.count = count;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+}
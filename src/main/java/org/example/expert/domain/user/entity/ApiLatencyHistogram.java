@@ -0,0 +1,58 @@
+package org.example.expert.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "api_latency_histogram",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"endpoint", "user_id"}))
+public class ApiLatencyHistogram extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_latency_histogram_seq")
+    @SequenceGenerator(name = "api_latency_histogram_seq", sequenceName = "api_latency_histogram_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private String endpoint;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long totalCount;
+
+    @Column(nullable = false)
+    private Long maxValue;
+
+    // 조회 편의를 위해 저장 시점의 백분위도 같이 남긴다. (마이크로초)
+    private Long p50;
+    private Long p99;
+    private Long p999;
+
+    @Lob
+    private String buckets;
+
+    public ApiLatencyHistogram(String endpoint, Long userId) {
+        this.endpoint = endpoint;
+        this.userId = userId;
+    }
+
+    public void update(LatencyHistogram.Snapshot snapshot) {
+        this.totalCount = snapshot.getTotalCount();
+        this.maxValue = snapshot.getMax();
+        this.p50 = snapshot.percentile(50);
+        this.p99 = snapshot.percentile(99);
+        this.p999 = snapshot.percentile(99.9);
+        this.buckets = snapshot.encode();
+    }
+
+    public LatencyHistogram.Snapshot toSnapshot() {
+        return LatencyHistogram.Snapshot.decode(buckets, maxValue);
+    }
+}
@@ -13,11 +13,12 @@ import lombok.Setter;
 @Table(name = "api_use_time")
 public class ApiUseTime {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_use_time_seq")
+    @SequenceGenerator(name = "api_use_time_seq", sequenceName = "api_use_time_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
 
     @Column(nullable = false)
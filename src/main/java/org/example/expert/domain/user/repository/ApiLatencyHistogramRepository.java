@@ -0,0 +1,10 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.ApiLatencyHistogram;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface ApiLatencyHistogramRepository extends JpaRepository<ApiLatencyHistogram, Long> {
+    Optional<ApiLatencyHistogram> findByEndpointAndUserId(String endpoint, Long userId);
+}
@@ -1,11 +1,18 @@
 package org.example.expert.domain.user.repository;
 
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("SELECT new org.example.expert.domain.user.dto.UserSummary(u.id, u.email, u.userRole) " +
+            "FROM User u WHERE u.id = :userId")
+    Optional<UserSummary> findSummaryById(@Param("userId") Long userId);
 }
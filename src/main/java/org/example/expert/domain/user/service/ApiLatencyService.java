@@ -0,0 +1,98 @@
+package org.example.expert.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+import org.example.expert.domain.user.dto.response.ApiLatencyResponse;
+import org.example.expert.domain.user.entity.ApiLatencyHistogram;
+import org.example.expert.domain.user.repository.ApiLatencyHistogramRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// (endpoint, user) 별 응답 시간 분포를 메모리에 기록하고 주기적으로 DB 에 굴려 저장한다.
+@Slf4j(topic = "ApiLatencyService")
+@Service
+@RequiredArgsConstructor
+public class ApiLatencyService {
+
+    private final ApiLatencyHistogramRepository apiLatencyHistogramRepository;
+    private final Map<LatencyKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, Long userId, long latencyMicros) {
+        histograms.computeIfAbsent(new LatencyKey(endpoint, userId), key -> new LatencyHistogram())
+                .record(latencyMicros);
+    }
+
+    public List<ApiLatencyResponse> getLatencies() {
+        List<ApiLatencyResponse> dtoList = new ArrayList<>();
+        histograms.forEach((key, histogram) -> {
+            LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+            dtoList.add(new ApiLatencyResponse(
+                    key.endpoint,
+                    key.userId,
+                    snapshot.getTotalCount(),
+                    snapshot.percentile(50),
+                    snapshot.percentile(99),
+                    snapshot.percentile(99.9),
+                    snapshot.getMax()
+            ));
+        });
+        dtoList.sort(Comparator.comparing(ApiLatencyResponse::getEndpoint)
+                .thenComparing(ApiLatencyResponse::getUserId));
+        return dtoList;
+    }
+
+    // 재시작 전에 저장된 분포를 불러와 이어서 기록한다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        for (ApiLatencyHistogram saved : apiLatencyHistogramRepository.findAll()) {
+            histograms.computeIfAbsent(new LatencyKey(saved.getEndpoint(), saved.getUserId()), key -> new LatencyHistogram())
+                    .add(saved.toSnapshot());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${api-latency.rollup-interval-ms:60000}")
+    @Transactional
+    public void rollup() {
+        histograms.forEach((key, histogram) -> {
+            ApiLatencyHistogram saved = apiLatencyHistogramRepository.findByEndpointAndUserId(key.endpoint, key.userId)
+                    .orElseGet(() -> new ApiLatencyHistogram(key.endpoint, key.userId));
+            saved.update(histogram.snapshot());
+            apiLatencyHistogramRepository.save(saved);
+        });
+    }
+
+    private static class LatencyKey {
+
+        private final String endpoint;
+        private final Long userId;
+
+        private LatencyKey(String endpoint, Long userId) {
+            this.endpoint = endpoint;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LatencyKey that)) return false;
+            return endpoint.equals(that.endpoint) && Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(endpoint, userId);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.expert.domain.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// id -> (id, email, role) read-through 캐시. 가장 오래 안 쓰인 항목부터 밀어내고,
+// User 엔티티가 수정/삭제되면 UserCacheInvalidationListener 가 항목을 지운다.
+@Component
+public class UserCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Map<Long, UserSummary> cache;
+    // 읽어오는 도중에 무효화가 있었는지 판단하는 유저별(striped) 버전. evict 가 올린다.
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserCache(UserRepository userRepository,
+                     MeterRegistry meterRegistry,
+                     @Value("${user.cache.enabled:true}") boolean enabled,
+                     @Value("${user.cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserSummary> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hitCounter = meterRegistry.counter("user.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("user.cache.requests", "result", "miss");
+        Gauge.builder("user.cache.hit.ratio", this, UserCache::getHitRatio).register(meterRegistry);
+        Gauge.builder("user.cache.size", this, UserCache::size).register(meterRegistry);
+    }
+
+    public Optional<UserSummary> findById(long userId) {
+        if (!enabled) {
+            return userRepository.findSummaryById(userId);
+        }
+
+        UserSummary cached;
+        synchronized (cache) {
+            cached = cache.get(userId);
+        }
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached);
+        }
+
+        missCounter.increment();
+        long version = versions.get(stripe(userId));
+        Optional<UserSummary> loaded = userRepository.findSummaryById(userId);
+        loaded.ifPresent(user -> {
+            synchronized (cache) {
+                // 읽는 사이에 같은 stripe 가 무효화됐다면 수정 전 값일 수 있으므로 결과만 쓰고 올려두지 않는다.
+                if (versions.get(stripe(userId)) == version) {
+                    cache.put(userId, user);
+                }
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(Long userId) {
+        synchronized (cache) {
+            versions.incrementAndGet(stripe(userId));
+            cache.remove(userId);
+        }
+    }
+
+    public double getHitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private int stripe(long userId) {
+        return (int) (Long.hashCode(userId) & (VERSION_STRIPES - 1));
+    }
+}
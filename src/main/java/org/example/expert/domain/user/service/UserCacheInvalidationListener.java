@@ -0,0 +1,28 @@
+package org.example.expert.domain.user.service;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.example.expert.domain.common.transaction.AfterCommit;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+// updateRole, changePassword 등으로 User 가 flush 되면 캐시 항목을 지운다.
+// 커밋 전에 다른 요청이 옛 값을 다시 올려둘 수 있으므로 커밋 이후에도 한 번 더 지운다.
+@Component
+public class UserCacheInvalidationListener {
+
+    private final UserCache userCache;
+
+    public UserCacheInvalidationListener(@Lazy UserCache userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        Long userId = user.getId();
+        userCache.evict(userId);
+        AfterCommit.run(() -> userCache.evict(userId));
+    }
+}
@@ -0,0 +1,32 @@
+-- IDENTITY 로 쌓인 기존 MySQL 스키마를 pooled 시퀀스(allocationSize = 50)로 옮길 때 한 번 실행한다.
+-- MySQL 에는 시퀀스가 없어서 Hibernate 는 엔티티마다 next_val 한 칸짜리 <테이블>_seq 테이블을 쓴다.
+-- pooled 옵티마이저는 읽은 값 v 에 대해 (v - 49) ~ v 를 나눠 주므로, 첫 id 가 MAX(id) + 1 이 되도록 MAX(id) + 50 으로 맞춘다.
+-- ddl-auto 가 1 로 만들어 둔 테이블도 올려 주고, 이미 더 큰 값은 줄이지 않으므로 다시 실행해도 된다. 애플리케이션을 모두 내린 뒤 실행한다.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM users));
+
+CREATE TABLE IF NOT EXISTS todos_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO todos_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM todos_seq);
+UPDATE todos_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM todos));
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO comments_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM comments_seq);
+UPDATE comments_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM comments));
+
+CREATE TABLE IF NOT EXISTS managers_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO managers_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM managers_seq);
+UPDATE managers_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM managers));
+
+CREATE TABLE IF NOT EXISTS api_use_time_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO api_use_time_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM api_use_time_seq);
+UPDATE api_use_time_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM api_use_time));
+
+CREATE TABLE IF NOT EXISTS api_latency_histogram_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO api_latency_histogram_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM api_latency_histogram_seq);
+UPDATE api_latency_histogram_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM api_latency_histogram));
+
+CREATE TABLE IF NOT EXISTS weather_enrichment_dead_letter_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO weather_enrichment_dead_letter_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM weather_enrichment_dead_letter_seq);
+UPDATE weather_enrichment_dead_letter_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 50 FROM weather_enrichment_dead_letter));
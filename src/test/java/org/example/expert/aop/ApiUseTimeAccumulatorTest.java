@@ -0,0 +1,80 @@
+package org.example.expert.aop;
+
+import org.example.expert.domain.user.entity.ApiUseTime;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.ApiUseTimeRepository;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class ApiUseTimeAccumulatorTest {
+
+    @Autowired
+    private ApiUseTimeAccumulator apiUseTimeAccumulator;
+
+    @Autowired
+    private ApiUseTimeRepository apiUseTimeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void 누적된_사용_시간이_flush_시점에_한_행으로_합산된다() {
+        // given
+        User user = userRepository.save(new User("admin-aop@example.com", "password", UserRole.ADMIN));
+
+        // when: 첫 flush 는 행을 만들고, 두 번째 flush 는 UPDATE 로 더한다
+        apiUseTimeAccumulator.record(user.getId(), 10L);
+        apiUseTimeAccumulator.record(user.getId(), 20L);
+        apiUseTimeAccumulator.flush();
+
+        apiUseTimeAccumulator.record(user.getId(), 5L);
+        apiUseTimeAccumulator.flush();
+
+        // then
+        ApiUseTime apiUseTime = apiUseTimeRepository.findByUser(user).orElseThrow();
+        assertEquals(35L, apiUseTime.getTotalTime());
+    }
+
+    @Test
+    void 유저_행이_없는_기록은_버리고_다른_유저의_사용_시간은_반영한다() {
+        // given: 기록 후 삭제되어 users 행이 없는 유저가 함께 섞여 있다
+        User user = userRepository.save(new User("admin-aop-2@example.com", "password", UserRole.ADMIN));
+        long deletedUserId = Long.MAX_VALUE;
+
+        // when
+        apiUseTimeAccumulator.record(user.getId(), 10L);
+        apiUseTimeAccumulator.record(deletedUserId, 5L);
+        apiUseTimeAccumulator.flush();
+
+        apiUseTimeAccumulator.record(user.getId(), 7L);
+        apiUseTimeAccumulator.flush();
+
+        // then: 없는 유저 때문에 막히지 않고, 그 기록은 다시 쌓이지 않는다
+        assertEquals(17L, apiUseTimeRepository.findByUser(user).orElseThrow().getTotalTime());
+        assertFalse(userRepository.existsById(deletedUserId));
+    }
+
+    @Test
+    void 한_주기_동안_기록이_없던_유저의_카운터는_지운다() {
+        // given
+        User user = userRepository.save(new User("admin-aop-3@example.com", "password", UserRole.ADMIN));
+        apiUseTimeAccumulator.flush();
+        int before = apiUseTimeAccumulator.pendingUserCount();
+        apiUseTimeAccumulator.record(user.getId(), 10L);
+
+        // when: 첫 flush 는 반영하고, 다음 flush 에서 비어 있는 카운터를 지운다
+        apiUseTimeAccumulator.flush();
+        apiUseTimeAccumulator.flush();
+
+        // then
+        assertEquals(before, apiUseTimeAccumulator.pendingUserCount());
+        assertEquals(10L, apiUseTimeRepository.findByUser(user).orElseThrow().getTotalTime());
+    }
+}
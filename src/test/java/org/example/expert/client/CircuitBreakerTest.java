@@ -0,0 +1,82 @@
+package org.example.expert.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private String failingCall() {
+        calls.incrementAndGet();
+        throw new IllegalStateException("upstream down");
+    }
+
+    @Test
+    void 연속_실패가_임계치에_도달하면_회로가_열리고_호출을_차단한다() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 2, Duration.ofSeconds(30), meterRegistry);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(this::failingCall));
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(this::failingCall));
+        assertThrows(ServerException.class, () -> circuitBreaker.execute(this::failingCall));
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(2, calls.get());
+        assertEquals(1, circuitBreaker.getTripCount());
+        assertEquals(1.0, meterRegistry.get("circuit.breaker.state").tag("name", "test").gauge().value());
+    }
+
+    @Test
+    void 차단_시간이_지나면_시험_호출이_성공해서_회로가_닫힌다() {
+        // given
+        MutableClock clock = new MutableClock();
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 1, Duration.ofSeconds(30), new SimpleMeterRegistry(), clock);
+        assertThrows(IllegalStateException.class, () -> circuitBreaker.execute(this::failingCall));
+
+        // when
+        clock.advance(Duration.ofSeconds(31));
+        String result = circuitBreaker.execute(() -> "ok");
+
+        // then
+        assertEquals("ok", result);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-09-14T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
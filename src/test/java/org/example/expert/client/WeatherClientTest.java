@@ -0,0 +1,167 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeatherClientTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-09-14T03:00:00Z"), ZoneOffset.UTC);
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    private WeatherDto[] weatherArray;
+
+    @BeforeEach
+    void setUp() {
+        weatherArray = new WeatherDto[]{
+                new WeatherDto("09-14", "Sunny"),
+                new WeatherDto("09-15", "Rainy")
+        };
+    }
+
+    private WeatherClient weatherClient() {
+        WeatherSource weatherSource = () -> {
+            fetchCount.incrementAndGet();
+            if (weatherArray == null) {
+                throw new ServerException("날씨 데이터를 가져오는데 실패했습니다.");
+            }
+            return weatherArray;
+        };
+        return new WeatherClient(weatherSource, Duration.ofHours(1), clock);
+    }
+
+    @Test
+    void 날씨_문서는_한_번만_받아오고_이후에는_캐시에서_꺼낸다() {
+        // given
+        WeatherClient weatherClient = weatherClient();
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void 처음_받아오는_중_실패하면_예외가_발생한다() {
+        // given
+        weatherArray = null;
+        WeatherClient weatherClient = weatherClient();
+
+        // when & then
+        assertThrows(ServerException.class, weatherClient::getTodayWeather);
+    }
+
+    @Test
+    void 오늘_날씨가_없으면_예외가_발생한다() {
+        // given
+        weatherArray = new WeatherDto[]{new WeatherDto("01-01", "Snow")};
+        WeatherClient weatherClient = weatherClient();
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, weatherClient::getTodayWeather);
+        assertEquals("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 동시에_부르면_한_번만_받아오고_오늘_항목이_읽히는_즉시_돌려준다() {
+        // given: 본문을 조금씩 넘겨주는 비동기 source
+        CompletableFuture<Void> body = new CompletableFuture<>();
+        AtomicReference<Consumer<WeatherDto>> consumer = new AtomicReference<>();
+        WeatherClient weatherClient = new WeatherClient(streamingSource(body, consumer), Duration.ofHours(1), clock);
+
+        // when
+        CompletableFuture<String> first = weatherClient.getTodayWeatherAsync();
+        CompletableFuture<String> second = weatherClient.getTodayWeatherAsync();
+        awaitSet(consumer);  // 받아오기는 weather-refresh 스레드에서 시작된다
+        consumer.get().accept(new WeatherDto("09-13", "Cloudy"));
+        consumer.get().accept(new WeatherDto("09-14", "Sunny"));
+
+        // then: 본문이 끝나기 전에 두 호출 모두 오늘 날씨를 받는다
+        assertEquals("Sunny", first.getNow(null));
+        assertEquals("Sunny", second.getNow(null));
+        assertFalse(body.isDone());
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void 제한_시간_안에_받지_못하면_예외가_발생한다() {
+        // given: 끝나지 않는 source
+        WeatherClient weatherClient = new WeatherClient(
+                streamingSource(new CompletableFuture<>(), new AtomicReference<>()), Duration.ofHours(1), Duration.ofMillis(50), clock);
+
+        // when & then
+        ServerException exception = assertThrows(ServerException.class, weatherClient::getTodayWeather);
+        assertEquals("날씨 데이터를 제한 시간 안에 받지 못했습니다.", exception.getMessage());
+    }
+
+    @Test
+    void 동기_source_여도_호출한_스레드를_막지_않고_제한_시간이_적용된다() {
+        // given: 응답이 오지 않아 fetchWeather 에서 멈춰 있는 동기 source
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherSource blockingSource = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return weatherArray;
+        };
+        WeatherClient weatherClient = new WeatherClient(blockingSource, Duration.ofHours(1), Duration.ofMillis(50), clock);
+
+        try {
+            // when
+            CompletableFuture<String> weather = weatherClient.getTodayWeatherAsync();
+
+            // then: 바로 돌아오고, 받아오기가 끝나지 않아도 제한 시간에 끝난다
+            assertFalse(weather.isDone());
+            CompletionException exception = assertThrows(CompletionException.class, weather::join);
+            assertEquals("날씨 데이터를 제한 시간 안에 받지 못했습니다.", exception.getCause().getMessage());
+        } finally {
+            release.countDown();
+            weatherClient.shutdown();
+        }
+    }
+
+    private static void awaitSet(AtomicReference<?> reference) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (reference.get() == null && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private WeatherSource streamingSource(CompletableFuture<Void> body, AtomicReference<Consumer<WeatherDto>> consumer) {
+        return new WeatherSource() {
+            @Override
+            public WeatherDto[] fetchWeather() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<Void> streamWeather(Consumer<WeatherDto> weatherConsumer) {
+                fetchCount.incrementAndGet();
+                consumer.set(weatherConsumer);
+                return body;
+            }
+        };
+    }
+}
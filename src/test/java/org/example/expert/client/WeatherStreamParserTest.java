@@ -0,0 +1,71 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherStreamParserTest {
+
+    @Test
+    void 토큰_중간에서_잘린_조각도_이어서_항목_단위로_넘긴다() {
+        // given
+        List<WeatherDto> parsed = new ArrayList<>();
+        WeatherStreamParser parser = new WeatherStreamParser(parsed::add);
+        parser.onSubscribe(new NoopSubscription());
+
+        // when: 첫 항목 중간에서 잘린 조각
+        parser.onNext(chunk("[{\"date\": \"09-1"));
+        int afterFirstChunk = parsed.size();
+        parser.onNext(chunk("4\", \"weather\": \"Sunny\"}, {\"date\": \"09-15\", \"weather\": \"Rainy\"}]"));
+        parser.onComplete();
+
+        // then
+        assertEquals(0, afterFirstChunk);
+        assertEquals(2, parsed.size());
+        assertEquals("09-14", parsed.get(0).getDate());
+        assertEquals("Rainy", parsed.get(1).getWeather());
+        assertTrue(parser.done().isDone());
+    }
+
+    @Test
+    void 항목이_없는_문서는_실패로_끝난다() {
+        // given
+        WeatherStreamParser parser = new WeatherStreamParser(weatherDto -> { });
+        parser.onSubscribe(new NoopSubscription());
+
+        // when
+        parser.onNext(chunk("[]"));
+        parser.onComplete();
+
+        // then
+        CompletionException exception = assertThrows(CompletionException.class, () -> parser.done().join());
+        assertInstanceOf(ServerException.class, exception.getCause());
+    }
+
+    private List<ByteBuffer> chunk(String text) {
+        return List.of(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static class NoopSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
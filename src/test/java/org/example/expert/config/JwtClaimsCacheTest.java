@@ -0,0 +1,80 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JwtClaimsCacheTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey",
+                "7Iqk7YyM66W07YOA7L2U65Sp7YG065+9U3ByaW5n6rCV7J2Y7Yqc7YSw7LWc7JuQ67mI7J6F64uI64ukLg");
+        jwtUtil.init();
+    }
+
+    @Test
+    void 같은_토큰은_한_번만_검증하고_캐시에서_꺼낸다() {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(jwtUtil, 10);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "a@a.com", UserRole.USER));
+
+        // when
+        Claims first = jwtClaimsCache.getClaims(token);
+        Claims second = jwtClaimsCache.getClaims(token);
+
+        // then
+        assertSame(first, second);
+        assertEquals("1", second.getSubject());
+        assertEquals(1, jwtClaimsCache.getMissCount());
+        assertEquals(1, jwtClaimsCache.getHitCount());
+    }
+
+    @Test
+    void 최대_크기를_넘으면_항목을_밀어낸다() {
+        // given
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(jwtUtil, 2);
+
+        // when
+        for (long userId = 1; userId <= 5; userId++) {
+            String token = jwtUtil.substringToken(jwtUtil.createToken(userId, "a@a.com", UserRole.USER));
+            jwtClaimsCache.getClaims(token);
+        }
+
+        // then
+        assertEquals(2, jwtClaimsCache.size());
+        assertEquals(5, jwtClaimsCache.getMissCount());
+    }
+
+    @Test
+    void 가득_찬_캐시는_최근에_쓴_토큰을_남기고_가장_오래_쓰지_않은_토큰부터_밀어낸다() {
+        // given: 100개가 찬 캐시에서 앞쪽 50개를 다시 사용
+        JwtClaimsCache jwtClaimsCache = new JwtClaimsCache(jwtUtil, 100);
+        List<String> tokens = new ArrayList<>();
+        for (long userId = 1; userId <= 150; userId++) {
+            tokens.add(jwtUtil.substringToken(jwtUtil.createToken(userId, "a@a.com", UserRole.USER)));
+        }
+        tokens.subList(0, 100).forEach(jwtClaimsCache::getClaims);
+        tokens.subList(0, 50).forEach(jwtClaimsCache::getClaims);
+
+        // when: 새 토큰 50개가 들어온다
+        tokens.subList(100, 150).forEach(jwtClaimsCache::getClaims);
+        long missesBefore = jwtClaimsCache.getMissCount();
+        tokens.subList(0, 50).forEach(jwtClaimsCache::getClaims);
+
+        // then: 최근에 쓴 50개는 모두 캐시에서 나온다
+        assertEquals(missesBefore, jwtClaimsCache.getMissCount());
+        assertEquals(100, jwtClaimsCache.size());
+    }
+}
@@ -1,17 +1,31 @@
 package org.example.expert.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@ExtendWith(SpringExtension.class)
 class PasswordEncoderTest {
 
-    @InjectMocks
-    private final PasswordEncoder passwordEncoder = new PasswordEncoder();
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = new PasswordEncoder(10, 1, 64, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
 
     @Test
     void matches_메서드가_정상적으로_동작한다() {
@@ -25,4 +39,35 @@ class PasswordEncoderTest {
         // then
         assertTrue(matches);
     }
+
+    @Test
+    void 해시_대기열이_가득_차면_ServiceUnavailableException을_던진다() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordEncoder saturatedEncoder = new PasswordEncoder(14, 1, 1, meterRegistry, Duration.ofMinutes(1));
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> saturatedEncoder.encode("running"));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> saturatedEncoder.encode("queued"));
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> saturatedEncoder.encode("rejected"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").counter().count());
+        saturatedEncoder.shutdown();
+        running.cancel(true);
+        queued.cancel(true);
+    }
+
+    @Test
+    void 해시가_제한_시간_안에_끝나지_않으면_ServiceUnavailableException을_던진다() {
+        // given: cost 14 는 해시 한 번에 1초 가까이 걸린다
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordEncoder slowEncoder = new PasswordEncoder(14, 1, 1, meterRegistry, Duration.ofMillis(50));
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> slowEncoder.encode("slow"));
+        assertEquals(1.0, meterRegistry.get("password.hash.timeout").counter().count());
+        slowEncoder.shutdown();
+    }
 }
@@ -0,0 +1,72 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PersistenceConfigTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 여러_엔티티를_저장하면_insert_가_batch_로_묶인다() {
+        // given
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            users.add(new User("batch-" + i + "@example.com", "password", UserRole.USER));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        userRepository.saveAll(users);
+
+        // then: 120건이 batch 두 번(100 + 20)과 시퀀스 조회 몇 번으로 끝난다
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void MySQL_커넥션에는_useCursorFetch_를_켜고_직접_정한_값은_두고_H2_는_건드리지_않는다() {
+        // given
+        HikariDataSource mysql = dataSource("jdbc:mysql://localhost:3306/expert");
+        HikariDataSource mysqlWithUrlFlag = dataSource("jdbc:mysql://localhost:3306/expert?useCursorFetch=false");
+        HikariDataSource h2 = dataSource("jdbc:h2:mem:expert");
+
+        // when
+        PersistenceConfig.enableCursorFetch(mysql);
+        PersistenceConfig.enableCursorFetch(mysqlWithUrlFlag);
+        PersistenceConfig.enableCursorFetch(h2);
+
+        // then
+        assertEquals("true", mysql.getDataSourceProperties().get("useCursorFetch"));
+        assertNull(mysqlWithUrlFlag.getDataSourceProperties().get("useCursorFetch"));
+        assertTrue(h2.getDataSourceProperties().isEmpty());
+    }
+
+    private HikariDataSource dataSource(String jdbcUrl) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(jdbcUrl);
+        return dataSource;
+    }
+}
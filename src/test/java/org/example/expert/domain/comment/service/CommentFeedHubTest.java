@@ -0,0 +1,98 @@
+package org.example.expert.domain.comment.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommentFeedHubTest {
+
+    @Test
+    void 버퍼가_가득_찬_느린_구독자는_끊는다() {
+        // given: 버퍼 1칸, 아직 replay 중이라 보내지 못하고 쌓이기만 하는 구독자
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommentFeedHub commentFeedHub = new CommentFeedHub(meterRegistry, 1, 10, 1, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        commentFeedHub.subscribe(1L);
+
+        // when
+        commentFeedHub.publish(1L, List.of(
+                new CommentResponse(1L, "first", 1L, "a@a.com"),
+                new CommentResponse(2L, "second", 1L, "a@a.com")
+        ));
+
+        // then
+        assertEquals(0, commentFeedHub.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("comment.feed.dropped").counter().count());
+        commentFeedHub.shutdown();
+    }
+
+    @Test
+    void 구독자_수가_한도를_넘으면_ServiceUnavailableException을_던진다() {
+        // given
+        CommentFeedHub commentFeedHub = new CommentFeedHub(new SimpleMeterRegistry(), 8, 1, 1, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        commentFeedHub.subscribe(1L);
+
+        // when & then
+        assertThrows(ServiceUnavailableException.class, () -> commentFeedHub.subscribe(2L));
+        assertEquals(1, commentFeedHub.getSubscriberCount());
+        commentFeedHub.shutdown();
+    }
+
+    @Test
+    void 쓰기가_시간_안에_끝나지_않는_구독자는_끊고_다른_구독자에게_계속_보낸다() throws Exception {
+        // given: 전송 스레드 1개, 첫 구독자는 쓰기에서 멈추는 클라이언트
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<Long> fastSentIds = new CopyOnWriteArrayList<>();
+        AtomicInteger emitterCount = new AtomicInteger();
+        CommentFeedHub commentFeedHub = new CommentFeedHub(meterRegistry, 8, 10, 1, Duration.ofMinutes(1), Duration.ofMillis(200)) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                boolean slow = emitterCount.getAndIncrement() == 0;
+                return new SseEmitter(timeoutMillis) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        if (slow) {
+                            try {
+                                Thread.sleep(30_000);
+                            } catch (InterruptedException e) {
+                                throw new IOException("write aborted", e);
+                            }
+                        }
+                        for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                            if (data.getData() instanceof CommentResponse comment) {
+                                fastSentIds.add(comment.getId());
+                            }
+                        }
+                    }
+                };
+            }
+        };
+        commentFeedHub.start(commentFeedHub.subscribe(1L), List.of(), false);
+        commentFeedHub.start(commentFeedHub.subscribe(2L), List.of(), false);
+
+        // when: 느린 구독자에게 쓰는 동안 빠른 구독자의 댓글이 같은 전송 스레드 뒤에 줄을 선다
+        commentFeedHub.publish(1L, List.of(new CommentResponse(1L, "slow", 1L, "a@a.com")));
+        commentFeedHub.publish(2L, List.of(new CommentResponse(2L, "fast", 1L, "a@a.com")));
+
+        // then
+        long deadline = System.currentTimeMillis() + 5000;
+        while (fastSentIds.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(List.of(2L), fastSentIds);
+        assertEquals(1, commentFeedHub.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("comment.feed.write.timeout").counter().count());
+        commentFeedHub.shutdown();
+    }
+}
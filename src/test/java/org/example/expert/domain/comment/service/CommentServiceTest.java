@@ -1,10 +1,15 @@
 package org.example.expert.domain.comment.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.concurrent.SingleFlight;
+import org.example.expert.domain.comment.dto.request.CommentBulkSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.ManagerService;
 import org.example.expert.domain.todo.entity.Todo;
@@ -14,15 +19,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +50,10 @@ class CommentServiceTest {
     @Mock
     private ManagerService managerService;
     @Mock
+    private CommentFeedHub commentFeedHub;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+    @Mock
     private Comment comment;
     @InjectMocks
     private CommentService commentService;
@@ -82,6 +101,137 @@ class CommentServiceTest {
         assertNotNull(result);
     }
 
+    @Test
+    void comment를_여러_개_등록하면_담당자_확인은_한_번만_하고_한_번에_저장한다() {
+        // given
+        // 생성자의 openMocks 때문에 @InjectMocks 인스턴스는 이전 목을 들고 있으므로 현재 목으로 직접 만든다.
+        CommentService bulkCommentService = new CommentService(todoRepository, commentRepository, managerService, commentFeedHub, singleFlight);
+        long todoId = 1L;
+        AuthUser authUser = new AuthUser(1L, "email");
+        Todo todo = new Todo("title", "contents", "Sunny", User.fromAuthUser(authUser));
+        CommentBulkSaveRequest request = new CommentBulkSaveRequest(List.of(
+                new CommentSaveRequest("first"),
+                new CommentSaveRequest("second"),
+                new CommentSaveRequest("third")
+        ));
+
+        given(todoRepository.findById(todoId)).willReturn(Optional.of(todo));
+        given(managerService.isManagerForTodo(1L, todoId)).willReturn(true);
+        given(commentRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<CommentSaveResponse> result = bulkCommentService.saveComments(authUser, todoId, request);
+
+        // then
+        assertEquals(3, result.size());
+        assertEquals("third", result.get(2).getContents());
+        verify(managerService, times(1)).isManagerForTodo(1L, todoId);
+        verify(commentRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void 댓글_커서_조회는_요청_크기를_100으로_제한하고_마지막_id로_다음_커서를_만든다() {
+        // given
+        CommentService cursorCommentService = new CommentService(todoRepository, commentRepository, managerService, commentFeedHub, singleFlight);
+        long todoId = 1L;
+        List<CommentResponse> content = List.of(
+                new CommentResponse(11L, "first", 1L, "a@example.com"),
+                new CommentResponse(12L, "second", 2L, "b@example.com")
+        );
+        given(commentRepository.findSliceByTodoIdAfter(todoId, 10L, PageRequest.of(0, 100)))
+                .willReturn(new SliceImpl<>(content, PageRequest.of(0, 100), true));
+
+        // when
+        CursorResponse<CommentResponse> response = cursorCommentService.getCommentsByCursor(todoId, "10", 5000);
+
+        // then
+        assertTrue(response.isHasNext());
+        assertEquals("12", response.getNextCursor());
+        assertEquals("b@example.com", response.getContent().get(1).getUser().getEmail());
+    }
+
+    @Test
+    void 댓글_커서가_숫자가_아니면_예외() {
+        // given
+        CommentService cursorCommentService = new CommentService(todoRepository, commentRepository, managerService, commentFeedHub, singleFlight);
+
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> cursorCommentService.getCommentsByCursor(1L, "abc", 10));
+    }
+
+    @Test
+    void 재접속하면_놓친_댓글부터_보내고_replay_중_등록된_댓글은_한_번만_보낸다() throws InterruptedException {
+        // given: 마지막으로 받은 댓글이 3번. replay 조회 중에 5번이 커밋되어 버퍼에도 들어온다
+        RecordingCommentFeedHub feedHub = new RecordingCommentFeedHub();
+        CommentService streamCommentService = new CommentService(todoRepository, commentRepository, managerService, feedHub, singleFlight);
+        long todoId = 1L;
+        CommentResponse fourth = new CommentResponse(4L, "fourth", 1L, "a@example.com");
+        CommentResponse fifth = new CommentResponse(5L, "fifth", 1L, "a@example.com");
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(commentRepository.findSliceByTodoIdAfter(todoId, 3L, PageRequest.of(0, 100))).willAnswer(invocation -> {
+            feedHub.publish(todoId, List.of(fifth));
+            return new SliceImpl<>(List.of(fourth, fifth), PageRequest.of(0, 100), false);
+        });
+
+        // when
+        streamCommentService.subscribeComments(todoId, 3L);
+        feedHub.publish(todoId, List.of(new CommentResponse(6L, "sixth", 1L, "a@example.com")));
+
+        // then
+        assertEquals(List.of(4L, 5L, 6L), feedHub.awaitSentIds(3));
+        feedHub.shutdown();
+    }
+
+    @Test
+    void replay_조회가_실패하면_걸어둔_구독을_해제한다() {
+        // given
+        RecordingCommentFeedHub feedHub = new RecordingCommentFeedHub();
+        CommentService streamCommentService = new CommentService(todoRepository, commentRepository, managerService, feedHub, singleFlight);
+        long todoId = 1L;
+        given(todoRepository.existsById(todoId)).willReturn(true);
+        given(commentRepository.findSliceByTodoIdAfter(todoId, 3L, PageRequest.of(0, 100)))
+                .willThrow(new IllegalStateException("DB 오류"));
+
+        // when
+        assertThrows(IllegalStateException.class, () -> streamCommentService.subscribeComments(todoId, 3L));
+
+        // then: 구독자 한도를 차지하지 않는다
+        assertEquals(0, feedHub.getSubscriberCount());
+        feedHub.shutdown();
+    }
+
+    // 실제 허브로 동작하되, MVC 없이 보낸 댓글 id 를 기록한다.
+    private static class RecordingCommentFeedHub extends CommentFeedHub {
+
+        private final List<Long> sentIds = new CopyOnWriteArrayList<>();
+
+        RecordingCommentFeedHub() {
+            super(new SimpleMeterRegistry(), 16, 10, 1, Duration.ofMinutes(1), Duration.ofSeconds(5));
+        }
+
+        @Override
+        SseEmitter createEmitter(long timeoutMillis) {
+            return new SseEmitter(timeoutMillis) {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                        if (data.getData() instanceof CommentResponse comment) {
+                            sentIds.add(comment.getId());
+                        }
+                    }
+                }
+            };
+        }
+
+        List<Long> awaitSentIds(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sentIds.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            return List.copyOf(sentIds);
+        }
+    }
+
 //    @Test
 //    void 유저가_담당자가_아닐_경우_댓글_저장_실패() {
 //
@@ -0,0 +1,87 @@
+package org.example.expert.domain.common.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    @Test
+    void 실행_중인_같은_키_조회는_한_번만_실행하고_결과를_나눠_받는다() throws Exception {
+        // given: leader 의 loader 가 끝나지 않은 상태에서 같은 키로 한 번 더 호출
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight singleFlight = new SingleFlight(meterRegistry);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("todo", 1L, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> singleFlight.execute("todo", 1L, () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        while (meterRegistry.find("single.flight.calls").tag("result", "collapsed").counter() == null) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+
+        // then
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("single.flight.calls").tag("group", "todo").tag("result", "collapsed").counter().count());
+    }
+
+    @Test
+    void 끝난_조회는_저장하지_않고_다음_호출에서_다시_실행한다() {
+        // given
+        SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute("todo", 1L, loads::incrementAndGet);
+        singleFlight.execute("todo", 1L, loads::incrementAndGet);
+        singleFlight.execute("comments", 1L, loads::incrementAndGet);
+
+        // then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void leader_의_예외는_그대로_던진다() {
+        // given
+        SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                singleFlight.execute("todo", 1L, () -> {
+                    throw new InvalidRequestException("Todo not found");
+                }));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void 버킷_인덱스가_연속적이고_값을_포함한다() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.indexFor(value);
+            assertTrue(LatencyHistogram.highestValueFor(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueFor(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void 백분위가_상대오차_범위_안에서_계산된다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        // when
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertEquals(10_000, snapshot.getTotalCount());
+        assertEquals(10_000, snapshot.getMax());
+        assertEquals(5_000, snapshot.percentile(50), 5_000 * 0.04);
+        assertEquals(9_900, snapshot.percentile(99), 9_900 * 0.04);
+        assertEquals(9_990, snapshot.percentile(99.9), 9_990 * 0.04);
+    }
+
+    @Test
+    void 인코딩한_스냅샷을_복원해서_이어서_기록한다() {
+        // given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(120);
+        histogram.record(3_000);
+        LatencyHistogram.Snapshot saved = histogram.snapshot();
+
+        // when
+        LatencyHistogram restored = new LatencyHistogram();
+        restored.add(LatencyHistogram.Snapshot.decode(saved.encode(), saved.getMax()));
+        restored.record(50);
+
+        // then
+        LatencyHistogram.Snapshot snapshot = restored.snapshot();
+        assertEquals(3, snapshot.getTotalCount());
+        assertEquals(3_000, snapshot.getMax());
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.manager.ManagerMembershipIndex;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ManagerMembershipIndexTest {
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 담당자_목록은_한_번만_읽고_이후에는_메모리에서_확인한다() {
+        // given
+        ManagerMembershipIndex index = new ManagerMembershipIndex(managerRepository, transactionManager, 100);
+        given(managerRepository.findUserIdsByTodoId(1L)).willReturn(List.of(3L, 1L));
+
+        // when & then
+        assertTrue(index.contains(1L, 1L));
+        assertTrue(index.contains(1L, 3L));
+        assertFalse(index.contains(1L, 2L));
+        verify(managerRepository, times(1)).findUserIdsByTodoId(1L);
+    }
+
+    @Test
+    void 새_일정은_DB를_읽지_않고_작성자만_담당자로_등록된다() {
+        // given
+        ManagerMembershipIndex index = new ManagerMembershipIndex(managerRepository, transactionManager, 100);
+
+        // when
+        index.registerNewTodo(1L, 5L);
+
+        // then
+        assertTrue(index.contains(1L, 5L));
+        assertFalse(index.contains(1L, 6L));
+        verify(managerRepository, never()).findUserIdsByTodoId(1L);
+    }
+
+    @Test
+    void 담당자_등록과_삭제가_반영된다() {
+        // given
+        ManagerMembershipIndex index = new ManagerMembershipIndex(managerRepository, transactionManager, 100);
+        index.registerNewTodo(1L, 5L);
+
+        // when
+        index.addManager(1L, 7L);
+        index.removeManager(1L, 5L);
+
+        // then
+        assertTrue(index.contains(1L, 7L));
+        assertFalse(index.contains(1L, 5L));
+    }
+
+    @Test
+    void 메모리_한도를_넘으면_오래_조회되지_않은_일정부터_밀어낸다() {
+        // given
+        ManagerMembershipIndex index = new ManagerMembershipIndex(managerRepository, transactionManager, 2);
+        index.registerNewTodo(1L, 1L);
+        index.registerNewTodo(2L, 2L);
+
+        // when
+        index.contains(1L, 1L);
+        index.registerNewTodo(3L, 3L);
+
+        // then: 2번 일정이 밀려나서 다시 DB 에서 읽는다
+        assertEquals(2, index.size());
+        given(managerRepository.findUserIdsByTodoId(2L)).willReturn(List.of(2L));
+        assertTrue(index.contains(2L, 2L));
+        verify(managerRepository, times(1)).findUserIdsByTodoId(2L);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.domain.manager.service;
+
+import org.example.expert.domain.manager.ManagerMembershipIndex;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 DB 트랜잭션에서 담당자 집합을 처음 읽어 올리는 경로를 검증한다.
+@SpringBootTest
+class ManagerMembershipIndexTransactionTest {
+
+    @Autowired
+    private ManagerMembershipIndex managerMembershipIndex;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 호출한_트랜잭션의_스냅샷_이후에_등록된_담당자도_집합에_들어간다() {
+        // given: 인덱스에 아직 올라오지 않은 일정
+        User owner = userRepository.save(new User("index-owner@example.com", "password", UserRole.USER));
+        User newManager = userRepository.save(new User("index-manager@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+        caller.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        boolean isManager = Boolean.TRUE.equals(caller.execute(status -> {
+            // saveComment 처럼 먼저 일정을 읽어 스냅샷이 잡힌 상태
+            todoRepository.findById(todo.getId()).orElseThrow();
+
+            // when: 그 사이 다른 트랜잭션에서 담당자가 등록되고 커밋 이후 인덱스에 알린다
+            CompletableFuture.runAsync(() -> {
+                managerRepository.save(new Manager(newManager, todoRepository.getReferenceById(todo.getId())));
+                managerMembershipIndex.addManager(todo.getId(), newManager.getId());
+            }).join();
+
+            return managerMembershipIndex.contains(todo.getId(), newManager.getId());
+        }));
+
+        // then: 처음 올린 집합에 새 담당자가 들어 있고, 이후 조회에서도 유지된다
+        assertTrue(isManager);
+        assertTrue(managerMembershipIndex.contains(todo.getId(), newManager.getId()));
+    }
+}
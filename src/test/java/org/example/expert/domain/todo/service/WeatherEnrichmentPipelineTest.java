@@ -0,0 +1,131 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.todo.entity.WeatherEnrichmentDeadLetter;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.WeatherEnrichmentDeadLetterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WeatherEnrichmentPipelineTest {
+
+    @Mock
+    private WeatherClient weatherClient;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private WeatherEnrichmentDeadLetterRepository deadLetterRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void process_날씨를_받으면_배치_UPDATE_한_번으로_채우고_변경_이벤트를_발행한다() {
+        // given
+        WeatherEnrichmentPipeline pipeline = pipeline(false, 5, Duration.ofSeconds(1));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        List<WeatherEnrichmentPipeline.EnrichmentTask> batch = List.of(
+                new WeatherEnrichmentPipeline.EnrichmentTask(1L, 0),
+                new WeatherEnrichmentPipeline.EnrichmentTask(2L, 0));
+
+        // when
+        pipeline.process(batch);
+
+        // then
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(jdbcTemplate).batchUpdate(anyString(), eq(batch), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TodoChangedEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void process_재시도_횟수를_넘으면_dead_letter_로_옮긴다() {
+        // given
+        WeatherEnrichmentPipeline pipeline = pipeline(false, 1, Duration.ofSeconds(1));
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 API 오류"));
+
+        // when
+        pipeline.process(List.of(
+                new WeatherEnrichmentPipeline.EnrichmentTask(1L, 0),
+                new WeatherEnrichmentPipeline.EnrichmentTask(2L, 0)));
+
+        // then
+        ArgumentCaptor<List<WeatherEnrichmentDeadLetter>> deadLetters = ArgumentCaptor.forClass(List.class);
+        verify(deadLetterRepository).saveAll(deadLetters.capture());
+        assertEquals(List.of(1L, 2L), deadLetters.getValue().stream().map(WeatherEnrichmentDeadLetter::getTodoId).toList());
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void sweep_PENDING_으로_남은_일정을_큐에_넣어_보강한다() {
+        // given
+        WeatherEnrichmentPipeline pipeline = pipeline(true, 5, Duration.ofSeconds(1));
+        given(weatherClient.getTodayWeather()).willReturn("Sunny");
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).willReturn(List.of(1L, 2L));
+        pipeline.start();
+
+        try {
+            // when
+            pipeline.sweep();
+
+            // then
+            verify(eventPublisher, timeout(5000).times(2)).publishEvent(any(TodoChangedEvent.class));
+        } finally {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void sweep_재시도를_기다리는_일정은_다시_넣지_않는다() {
+        // given: 첫 시도가 실패해서 재시도(1시간 뒤)를 기다리는 일정
+        WeatherEnrichmentPipeline pipeline = pipeline(true, 3, Duration.ofHours(1));
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 API 오류"));
+        given(jdbcTemplate.queryForList(anyString(), eq(Long.class), any(Object[].class))).willReturn(List.of(1L));
+        pipeline.start();
+
+        try {
+            pipeline.enqueue(1L);
+            verify(weatherClient, timeout(5000).times(1)).getTodayWeather();
+
+            // when: 아직 PENDING 이고 dead letter 도 없으므로 sweep 쿼리에는 걸린다
+            pipeline.sweep();
+
+            // then: 두 번째 재시도 흐름이 시작되지 않는다
+            verify(weatherClient, after(300).times(1)).getTodayWeather();
+            verify(deadLetterRepository, never()).saveAll(anyList());
+        } finally {
+            pipeline.stop();
+        }
+    }
+
+    private WeatherEnrichmentPipeline pipeline(boolean enabled, int maxAttempts, Duration retryBackoff) {
+        return new WeatherEnrichmentPipeline(weatherClient, jdbcTemplate, deadLetterRepository, eventPublisher,
+                enabled, 1, 100, 100, maxAttempts, retryBackoff);
+    }
+}
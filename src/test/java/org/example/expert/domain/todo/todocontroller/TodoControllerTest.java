@@ -29,9 +29,15 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -131,4 +137,44 @@ public class TodoControllerTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void 목록이_바뀌지_않았으면_304를_돌려준다() throws Exception {
+        // Given
+        String eTag = "\"todos-test-3\"";
+        String token = jwtUtil.createToken(1L, "user1@example.com", UserRole.USER);
+        given(todoService.getTodosETag()).willReturn(eTag);
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .header("AUTHORIZATION", token))
+                .andExpect(status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag));
+        verify(todoService, never()).getTodos(anyInt(), anyInt());
+    }
+
+    @Test
+    void 일정이_바뀌지_않았으면_일정을_불러오지_않고_304를_돌려준다() throws Exception {
+        // Given
+        long todoId = 1L;
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0, 0, 123456789);
+        String token = jwtUtil.createToken(1L, "user1@example.com", UserRole.USER);
+        TodoResponse todoResponse = new TodoResponse(todoId, "Test Todo", "Test Contents", "Sunny", 1L, "user1@example.com", modifiedAt, modifiedAt);
+        given(todoService.getTodo(todoId)).willReturn(todoResponse);
+        given(todoService.findTodoModifiedAt(todoId)).willReturn(Optional.of(modifiedAt));
+
+        String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/todos/{todoId}", todoId)
+                        .header("AUTHORIZATION", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/{todoId}", todoId)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .header("AUTHORIZATION", token))
+                .andExpect(status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag));
+        verify(todoService, times(1)).getTodo(anyLong());
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.expert.domain.todo.todoservice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void 일정마다_담당자와_댓글을_한_줄로_내보낸다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("export-owner@example.com", "password", UserRole.USER));
+        User member = userRepository.save(new User("export-member@example.com", "password", UserRole.USER));
+        Todo first = todoRepository.save(new Todo("first", "contents", "Sunny", owner));
+        Todo second = todoRepository.save(new Todo("second", "contents", "Rainy", owner));
+        managerRepository.save(new Manager(member, second));
+        commentRepository.save(new Comment("first-1", owner, first));
+        commentRepository.save(new Comment("second-1", member, second));
+        commentRepository.save(new Comment("second-2", owner, second));
+
+        // when
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        todoExportService.export(outputStream);
+
+        // then
+        Map<Long, JsonNode> lines = new HashMap<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            lines.put(node.get("id").asLong(), node);
+        }
+
+        JsonNode firstLine = lines.get(first.getId());
+        assertEquals(1, firstLine.get("managers").size());
+        assertEquals(1, firstLine.get("comments").size());
+        assertEquals("export-owner@example.com", firstLine.get("user").get("email").asText());
+
+        JsonNode secondLine = lines.get(second.getId());
+        assertEquals(2, secondLine.get("managers").size());
+        assertEquals("export-member@example.com", secondLine.get("managers").get(1).get("user").get("email").asText());
+        assertEquals("second-2", secondLine.get("comments").get(1).get("contents").asText());
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.expert.domain.todo.todoservice;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchHit;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.search.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoSearchService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class TodoSearchServiceTest {
+
+    @Autowired
+    private TodoSearchService todoSearchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 저장된_일정과_댓글이_색인되고_제목에_맞은_일정이_먼저_나온다() {
+        // given
+        User owner = userRepository.save(new User("search-owner@example.com", "password", UserRole.USER));
+        Todo inTitle = todoRepository.save(new Todo("zebracorn meeting", "agenda", "Sunny", owner));
+        Todo inContents = todoRepository.save(new Todo("weekly", "bring the zebracorn notes", "Sunny", owner));
+        Todo inComment = todoRepository.save(new Todo("lunch", "menu", "Sunny", owner));
+        commentRepository.save(new Comment("zebracorn again?", owner, inComment));
+
+        // when
+        todoSearchService.flushPending();
+        CursorResponse<TodoSearchHit> firstPage = todoSearchService.search("zebracorn", null, 2);
+        CursorResponse<TodoSearchHit> secondPage = todoSearchService.search("zebracorn", firstPage.getNextCursor(), 2);
+
+        // then
+        assertTrue(firstPage.isHasNext());
+        assertEquals(inTitle.getId(), firstPage.getContent().get(0).getTodoId());
+        assertFalse(secondPage.isHasNext());
+
+        List<Long> todoIds = new ArrayList<>();
+        firstPage.getContent().forEach(hit -> todoIds.add(hit.getTodoId()));
+        secondPage.getContent().forEach(hit -> todoIds.add(hit.getTodoId()));
+        assertEquals(3, todoIds.size());
+        assertTrue(todoIds.containsAll(List.of(inTitle.getId(), inContents.getId(), inComment.getId())));
+    }
+
+    @Test
+    void 이벤트_없이_바뀐_데이터도_재색인하면_검색된다() {
+        // given: 엔티티를 거치지 않고 JDBC 로 바로 바꾼 제목은 증분 색인에 잡히지 않는다
+        User owner = userRepository.save(new User("search-rebuild@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("before", "contents", "Sunny", owner));
+        todoSearchService.flushPending();
+        jdbcTemplate.update("UPDATE todos SET title = ? WHERE id = ?", "quokkafest", todo.getId());
+        assertTrue(todoSearchService.search("quokkafest", null, 10).getContent().isEmpty());
+
+        // when
+        todoSearchService.rebuild();
+        CursorResponse<TodoSearchHit> response = todoSearchService.search("quokkafest", null, 10);
+
+        // then
+        assertEquals(1, response.getContent().size());
+        assertEquals(todo.getId(), response.getContent().get(0).getTodoId());
+    }
+
+    @Test
+    void 관리자_재색인은_백그라운드에서_돌고_끝나면_검색된다() throws Exception {
+        // given
+        User owner = userRepository.save(new User("search-async@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("before", "contents", "Sunny", owner));
+        todoSearchService.flushPending();
+        jdbcTemplate.update("UPDATE todos SET title = ? WHERE id = ?", "wombatgala", todo.getId());
+
+        // when
+        boolean started = todoSearchService.rebuildAsync();
+
+        // then
+        assertTrue(started);
+        long deadline = System.currentTimeMillis() + 5000;
+        while (todoSearchService.search("wombatgala", null, 10).getContent().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(todo.getId(), todoSearchService.search("wombatgala", null, 10).getContent().get(0).getTodoId());
+    }
+
+    @Test
+    void 색인에_실패한_일정은_남겨_두고_나머지_일정은_계속_색인한다() throws Exception {
+        // given: 1번 일정은 읽을 때마다 실패한다
+        TodoRepository failingTodoRepository = mock(TodoRepository.class);
+        TodoSearchService service = new TodoSearchService(new TodoSearchIndex(""), failingTodoRepository,
+                mock(CommentRepository.class), mock(EntityManager.class), mock(PlatformTransactionManager.class), true);
+        given(failingTodoRepository.findResponseById(1L)).willThrow(new IllegalStateException("DB 오류"));
+        given(failingTodoRepository.findResponseById(2L)).willReturn(
+                Optional.of(new TodoResponse(2L, "llamaparade", "contents", "Sunny", 1L, "a@a.com", null, null)));
+        service.onTodoChanged(new TodoChangedEvent(1L));
+        service.onTodoChanged(new TodoChangedEvent(2L));
+
+        // when
+        service.flushPending();
+        service.flushPending();
+
+        // then: 2번은 색인되고, 1번은 다음 주기에 다시 시도된다
+        assertEquals(2L, service.search("llamaparade", null, 10).getContent().get(0).getTodoId());
+        verify(failingTodoRepository, times(2)).findResponseById(1L);
+        verify(failingTodoRepository, times(1)).findResponseById(2L);
+        service.shutdown();
+    }
+}
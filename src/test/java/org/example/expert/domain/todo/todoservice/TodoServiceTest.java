@@ -1,31 +1,46 @@
 package org.example.expert.domain.todo.todoservice;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.concurrent.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.ManagerMembershipIndex;
+import org.example.expert.domain.todo.dto.TodoCursor;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.event.TodoChangedEvent;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoListCache;
 import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.WeatherEnrichmentPipeline;
 import org.example.expert.domain.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TodoServiceTest {
@@ -39,6 +54,18 @@ class TodoServiceTest {
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private WeatherEnrichmentPipeline weatherEnrichmentPipeline;
+
+    @Mock
+    private ManagerMembershipIndex managerMembershipIndex;
+
+    @Spy
+    private TodoListCache todoListCache = new TodoListCache(new SimpleMeterRegistry(), true, 5, 100);
+
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -70,16 +97,38 @@ class TodoServiceTest {
         assertEquals("Sunny", response.getWeather());  // 날씨가 예상한 값인지 확인
     }
 
+    @Test
+    void saveTodo_비동기_보강_모드면_날씨를_기다리지_않고_저장한다() {
+
+        // given
+        AuthUser authUser = new AuthUser(1L, "odomarine@rokmc.com");
+        TodoSaveRequest todoSaveRequest = new TodoSaveRequest("Test Title", "Test contents");
+
+        when(weatherEnrichmentPipeline.isEnabled()).thenReturn(true);
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+            Todo todo = invocation.getArgument(0);
+            ReflectionTestUtils.setField(todo, "id", 1L);
+            return todo;
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, todoSaveRequest);
+
+        // then: 날씨는 PENDING 으로 저장되고 보강 큐에 등록된다
+        assertEquals(Todo.WEATHER_PENDING, response.getWeather());
+        verify(weatherClient, never()).getTodayWeather();
+        verify(weatherEnrichmentPipeline).enqueue(1L);
+    }
+
     @Test
     void getTodos_정상적인_일정목록_가져오기_테스트() {
 
         // given: 페이지 정보와 Mock 데이터 설정
         Pageable pageable = PageRequest.of(0, 10);
-        User user = new User("odomarine@rokmc.com", "password", null);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        Page<Todo> todoPage = new PageImpl<>(Arrays.asList(todo));
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "odomarine@rokmc.com", null, null);
+        Page<TodoResponse> todoPage = new PageImpl<>(Arrays.asList(todo));
 
-        when(todoRepository.findAllByOrderByModifiedAtDesc(pageable)).thenReturn(todoPage);
+        when(todoRepository.findResponsePage(pageable)).thenReturn(todoPage);
 
         // when: 일정 목록 조회 메서드 호출
         Page<TodoResponse> response = todoService.getTodos(1, 10);
@@ -90,15 +139,33 @@ class TodoServiceTest {
         assertEquals("Title", response.getContent().get(0).getTitle());  // 첫 번째 일정의 제목 확인
     }
 
+    @Test
+    void getTodos_같은_페이지는_일정이_바뀌기_전까지_캐시에서_돌려준다() {
+
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "odomarine@rokmc.com", null, null);
+        when(todoRepository.findResponsePage(pageable)).thenReturn(new PageImpl<>(List.of(todo)));
+        String eTag = todoService.getTodosETag();
+
+        // when: 두 번 조회하고, 일정 변경 이벤트 뒤에 한 번 더 조회
+        todoService.getTodos(1, 10);
+        todoService.getTodos(1, 10);
+        todoListCache.onTodoChanged(new TodoChangedEvent(1L));
+        todoService.getTodos(1, 10);
+
+        // then: 변경 전까지는 한 번만 읽고, 변경 뒤에는 다시 읽으며 ETag 도 바뀐다
+        verify(todoRepository, times(2)).findResponsePage(pageable);
+        assertNotEquals(eTag, todoService.getTodosETag());
+    }
+
     @Test
     void getTodo_정상적인_일정_단건_가져오기_테스트() {
 
         // given: 특정 일정 데이터 설정
-        User user = new User("odomarine@rokmc.com", "password", null);
-        Todo todo = new Todo("Title", "Contents", "Sunny", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
-        // findByIdWithUser()가 특정 ID로 Todo를 반환하도록 설정
-        when(todoRepository.findByIdWithUser(anyLong())).thenReturn(Optional.of(todo));
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "odomarine@rokmc.com", null, null);
+        // findResponseById()가 특정 ID로 일정 응답을 반환하도록 설정
+        when(todoRepository.findResponseById(anyLong())).thenReturn(Optional.of(todo));
 
 
         // when: 단일 일정 조회 메서드 호출
@@ -114,9 +181,56 @@ class TodoServiceTest {
     @Test
     void getTodo_존재하지_않는_일정_테스트() {
         // given: 일정이 존재하지 않는 경우 설정
-        when(todoRepository.findByIdWithUser(1L)).thenReturn(Optional.empty());
+        when(todoRepository.findResponseById(1L)).thenReturn(Optional.empty());
 
         // when & then: 예외 발생 검증
         assertThrows(InvalidRequestException.class, () -> todoService.getTodo(1L));
     }
+
+    @Test
+    void getTodosByCursor_다음_페이지가_있으면_마지막_일정으로_커서를_만든다() {
+
+        // given: 첫 페이지 요청, 다음 페이지가 남아있는 상황
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+        TodoResponse todo = new TodoResponse(7L, "Title", "Contents", "Sunny", 1L, "odomarine@rokmc.com", modifiedAt, modifiedAt);
+
+        Pageable pageable = PageRequest.of(0, 1);
+        when(todoRepository.findFirstResponseSlice(pageable))
+                .thenReturn(new SliceImpl<>(List.of(todo), pageable, true));
+
+        // when: 커서 없이 조회
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(null, 1);
+
+        // then: count 쿼리 없이 다음 커서가 만들어진다
+        assertTrue(response.isHasNext());
+        assertEquals(1, response.getContent().size());
+        TodoCursor nextCursor = TodoCursor.decode(response.getNextCursor());
+        assertEquals(modifiedAt, nextCursor.getModifiedAt());
+        assertEquals(7L, nextCursor.getId());
+        verify(todoRepository, never()).findResponsePage(any());
+    }
+
+    @Test
+    void getTodosByCursor_커서_위치부터_조회한다() {
+
+        // given: 이전 페이지에서 받은 커서
+        LocalDateTime modifiedAt = LocalDateTime.of(2024, 9, 1, 12, 0);
+        String cursor = new TodoCursor(modifiedAt, 7L).encode();
+        Pageable pageable = PageRequest.of(0, 10);
+        when(todoRepository.findResponseSliceAfterCursor(modifiedAt, 7L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // when
+        CursorResponse<TodoResponse> response = todoService.getTodosByCursor(cursor, 10);
+
+        // then: 마지막 페이지면 다음 커서가 없다
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getTodosByCursor_잘못된_커서는_예외() {
+        // when & then
+        assertThrows(InvalidRequestException.class, () -> todoService.getTodosByCursor("not-a-cursor", 10));
+    }
 }
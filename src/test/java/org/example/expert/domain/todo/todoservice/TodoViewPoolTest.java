@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo.todoservice;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoViewService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 커넥션 풀(Hikari)과 open-in-view 기본값(켜짐)에서 /todos/{todoId}/view 를 검증한다.
+// 풀을 작게 잡아 두고 풀 크기보다 많은 요청을 동시에 보내도 커넥션 대기로 멈추지 않아야 한다.
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "todo.view.threads=4"
+})
+@AutoConfigureMockMvc
+class TodoViewPoolTest {
+
+    private static final int CONCURRENT_REQUESTS = 12;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TodoViewService todoViewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void 일정_화면은_쿼리_세_개로_읽는다() {
+        // given
+        Todo todo = seedTodo("view-queries");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        TodoViewResponse response = todoViewService.getTodoView(todo.getId(), 1);
+
+        // then
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(todo.getId(), response.getTodo().getId());
+        assertEquals(2, response.getManagers().size());  // 작성자는 일정을 만들 때 담당자로 들어간다
+        assertEquals(1, response.getComments().getContent().size());
+        assertTrue(response.getComments().isHasNext());
+    }
+
+    @Test
+    void 풀_크기보다_많은_동시_요청도_커넥션_대기로_멈추지_않는다() throws Exception {
+        // given
+        // 같은 일정이면 SingleFlight 로 합쳐지므로 요청마다 다른 일정을 읽는다
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            todos.add(seedTodo("view-pool-" + i));
+        }
+        String token = jwtUtil.createToken(1L, "user1@example.com", UserRole.USER);
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+
+        // when: 요청마다 커넥션 세 개가 필요하므로, 요청 스레드가 커넥션을 쥐고 기다리면 여기서 타임아웃(500)이 난다
+        List<Future<Integer>> statuses = new ArrayList<>();
+        try {
+            for (Todo todo : todos) {
+                Callable<Integer> request = () -> mockMvc.perform(MockMvcRequestBuilders.get("/todos/{todoId}/view", todo.getId())
+                                .header("AUTHORIZATION", token))
+                        .andReturn().getResponse().getStatus();
+                statuses.add(clients.submit(request));
+            }
+
+            // then
+            for (Future<Integer> status : statuses) {
+                assertEquals(200, status.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Todo seedTodo(String prefix) {
+        User owner = userRepository.save(new User(prefix + "-owner@example.com", "password", UserRole.USER));
+        User manager = userRepository.save(new User(prefix + "-manager@example.com", "password", UserRole.USER));
+        Todo todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+        managerRepository.save(new Manager(manager, todo));
+        commentRepository.save(new Comment("first", manager, todo));
+        commentRepository.save(new Comment("second", manager, todo));
+        return todo;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.todoservice;
+
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoViewResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.todo.service.TodoViewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class TodoViewServiceTest {
+
+    @Mock
+    private TodoService todoService;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
+    @Mock
+    private CommentService commentService;
+
+    private TodoViewService todoViewService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        todoViewService = new TodoViewService(todoService, managerRepository, commentService, 2, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoViewService.shutdown();
+    }
+
+    @Test
+    void 일정_담당자_댓글_첫_페이지를_한_번에_돌려준다() {
+        // given
+        TodoResponse todo = new TodoResponse(1L, "Title", "Contents", "Sunny", 1L, "odomarine@rokmc.com", null, null);
+        ManagerResponse manager = new ManagerResponse(3L, 2L, "manager@example.com");
+        CursorResponse<CommentResponse> comments =
+                new CursorResponse<>(List.of(new CommentResponse(5L, "comment", 2L, "manager@example.com")), "5", true);
+
+        when(todoService.getTodo(1L)).thenReturn(todo);
+        when(managerRepository.findResponsesByTodoId(1L)).thenReturn(List.of(manager));
+        when(commentService.getCommentsByCursor(1L, null, 1)).thenReturn(comments);
+
+        // when
+        TodoViewResponse response = todoViewService.getTodoView(1L, 1);
+
+        // then
+        assertEquals("Title", response.getTodo().getTitle());
+        assertEquals(1, response.getManagers().size());
+        assertEquals("manager@example.com", response.getManagers().get(0).getUser().getEmail());
+        assertEquals(5L, response.getComments().getContent().get(0).getId());
+        assertTrue(response.getComments().isHasNext());
+    }
+
+    @Test
+    void 일정이_없으면_IRE_에러를_던진다() {
+        // given
+        when(todoService.getTodo(1L)).thenThrow(new InvalidRequestException("Todo not found"));
+        when(managerRepository.findResponsesByTodoId(1L)).thenReturn(List.of());
+        when(commentService.getCommentsByCursor(1L, null, 20))
+                .thenReturn(new CursorResponse<>(List.of(), null, false));
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoViewService.getTodoView(1L, 20));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+}
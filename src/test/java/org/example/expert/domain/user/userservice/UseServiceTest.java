@@ -1,12 +1,16 @@
 package org.example.expert.domain.user.userservice;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.UserSummary;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserCache;
 import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -14,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,12 +39,24 @@ public class UseServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserCache userCache;
+
+    // 실제 해시가 필요한 곳에서 쓴다. 목과 달리 주입 대상이 아니다.
+    private final PasswordEncoder realPasswordEncoder =
+            new PasswordEncoder(10, 1, 64, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
     private User user;
 
+    @AfterEach
+    public void tearDown() {
+        realPasswordEncoder.shutdown();
+    }
+
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        user = new User("test@example.com", new PasswordEncoder().encode("q1w2e3r4"), null);
+        user = new User("test@example.com", realPasswordEncoder.encode("q1w2e3r4"), null);
         ReflectionTestUtils.setField(user, "id", 1L);
     }
 
@@ -47,7 +64,7 @@ public class UseServiceTest {
     void getUser_정상적으로_사용지_조회() {
 
         // given
-        when(userRepository.findById(1L)).thenReturn(java.util.Optional.of(user));
+        when(userCache.findById(1L)).thenReturn(Optional.of(new UserSummary(user.getId(), user.getEmail(), user.getUserRole())));
 
         // when
         UserResponse response = userService.getUser(1L);
@@ -65,7 +82,7 @@ public class UseServiceTest {
         String oldPassword = "OldPassword123";
         String newPassword = "NewPassword123";
         User user = new User();
-        String encodedOldPassword = new PasswordEncoder().encode(oldPassword);
+        String encodedOldPassword = realPasswordEncoder.encode(oldPassword);
 
         ReflectionTestUtils.setField(user, "password", encodedOldPassword);
 
@@ -75,11 +92,11 @@ public class UseServiceTest {
         when(passwordEncoder.matches(any(String.class), any(String.class))).thenAnswer(invocation -> {
             String providedPassword = invocation.getArgument(0);
             String storedPassword = invocation.getArgument(1);
-            return new PasswordEncoder().matches(providedPassword, storedPassword);
+            return realPasswordEncoder.matches(providedPassword, storedPassword);
         });
         when(passwordEncoder.encode(any(String.class))).thenAnswer(invocation -> {
             String password = invocation.getArgument(0);
-            return new PasswordEncoder().encode(password);
+            return realPasswordEncoder.encode(password);
         });
         // when
         userService.changePassword(1L, request);
@@ -97,7 +114,7 @@ public class UseServiceTest {
         UserChangePasswordRequest request = new UserChangePasswordRequest(oldPassword, newPassword);
 
         User user = new User();
-        String encodedOldPassword = new PasswordEncoder().encode("WrongOldPassword");
+        String encodedOldPassword = realPasswordEncoder.encode("WrongOldPassword");
 
         ReflectionTestUtils.setField(user, "password", encodedOldPassword);
 
@@ -0,0 +1,100 @@
+package org.example.expert.domain.user.userservice;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.user.dto.UserSummary;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void 한_번_조회한_유저는_DB를_다시_조회하지_않는다() {
+        // given
+        UserCache userCache = new UserCache(userRepository, new SimpleMeterRegistry(), true, 10);
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.of(new UserSummary(1L, "a@a.com", UserRole.USER)));
+
+        // when
+        userCache.findById(1L);
+        Optional<UserSummary> cached = userCache.findById(1L);
+
+        // then
+        assertTrue(cached.isPresent());
+        assertEquals("a@a.com", cached.get().getEmail());
+        assertEquals(0.5, userCache.getHitRatio());
+        verify(userRepository, times(1)).findSummaryById(1L);
+    }
+
+    @Test
+    void 무효화된_유저는_다시_DB에서_읽는다() {
+        // given
+        UserCache userCache = new UserCache(userRepository, new SimpleMeterRegistry(), true, 10);
+        given(userRepository.findSummaryById(1L)).willReturn(Optional.of(new UserSummary(1L, "a@a.com", UserRole.USER)));
+        userCache.findById(1L);
+
+        // when
+        userCache.evict(1L);
+        userCache.findById(1L);
+
+        // then
+        verify(userRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void 읽는_도중에_무효화되면_읽은_값을_캐시에_올리지_않는다() {
+        // given: DB 에서 수정 전 값을 읽은 직후, 수정 커밋 뒤의 evict 가 먼저 끝나는 상황
+        UserCache userCache = new UserCache(userRepository, new SimpleMeterRegistry(), true, 10);
+        given(userRepository.findSummaryById(1L))
+                .willAnswer(invocation -> {
+                    userCache.evict(1L);
+                    return Optional.of(new UserSummary(1L, "a@a.com", UserRole.USER));
+                })
+                .willReturn(Optional.of(new UserSummary(1L, "a@a.com", UserRole.ADMIN)));
+
+        // when
+        Optional<UserSummary> stale = userCache.findById(1L);
+        Optional<UserSummary> reloaded = userCache.findById(1L);
+
+        // then: 수정 전 값은 그 호출에만 쓰이고, 다음 조회는 DB 에서 새 값을 읽는다
+        assertEquals(UserRole.USER, stale.get().getUserRole());
+        assertEquals(UserRole.ADMIN, reloaded.get().getUserRole());
+        verify(userRepository, times(2)).findSummaryById(1L);
+    }
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_안_쓴_유저부터_밀어낸다() {
+        // given
+        UserCache userCache = new UserCache(userRepository, new SimpleMeterRegistry(), true, 2);
+        for (long userId = 1; userId <= 3; userId++) {
+            given(userRepository.findSummaryById(userId))
+                    .willReturn(Optional.of(new UserSummary(userId, userId + "@a.com", UserRole.USER)));
+        }
+
+        // when
+        userCache.findById(1L);
+        userCache.findById(2L);
+        userCache.findById(1L);
+        userCache.findById(3L);
+        userCache.findById(1L);
+
+        // then: 2번이 밀려났고 1번은 캐시에 남아 있다
+        assertEquals(2, userCache.size());
+        verify(userRepository, times(1)).findSummaryById(1L);
+    }
+}
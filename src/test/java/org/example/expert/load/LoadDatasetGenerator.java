@@ -0,0 +1,107 @@
+package org.example.expert.load;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntConsumer;
+
+// 부하 테스트용 데이터를 채운다. 엔티티는 pooled 시퀀스로 id 를 받고 hibernate.jdbc.batch_size 로 insert 가 묶이므로
+// JPA 로 넣어도 H2, MySQL 어디든 수 초 안에 채워진다. 연관관계는 getReference 로만 걸어 추가 조회가 없다.
+// 모든 유저는 같은 비밀번호 해시를 공유한다. BCrypt 를 유저 수만큼 돌리지 않기 위함이다.
+public class LoadDatasetGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoadDatasetGenerator(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public Dataset generate(int users, int todosPerUser, int commentsPerTodo, String encodedPassword) {
+        String prefix = "load-" + System.currentTimeMillis() + "-";
+
+        long[] userIds = new long[users];
+        persistInChunks(users, u -> {
+            User user = new User(prefix + u + "@example.com", encodedPassword, UserRole.USER);
+            entityManager.persist(user);
+            userIds[u] = user.getId();
+        });
+
+        // 작성자 본인(Todo 생성자에서 cascade) + 다음 번호 유저 한 명을 담당자로 둔다.
+        long[][] todoIds = new long[users][todosPerUser];
+        persistInChunks(users * todosPerUser, i -> {
+            int u = i / todosPerUser;
+            Todo todo = new Todo(prefix + u + "-" + i % todosPerUser, "contents", "Sunny", userReference(userIds[u]));
+            entityManager.persist(todo);
+            todoIds[u][i % todosPerUser] = todo.getId();
+            if (users > 1) {
+                entityManager.persist(new Manager(userReference(userIds[(u + 1) % users]), todo));
+            }
+        });
+
+        persistInChunks(users * todosPerUser * commentsPerTodo, i -> {
+            int todoIndex = i / commentsPerTodo;
+            int u = todoIndex / todosPerUser;
+            entityManager.persist(new Comment(
+                    "comment-" + i % commentsPerTodo,
+                    userReference(userIds[u]),
+                    entityManager.getReference(Todo.class, todoIds[u][todoIndex % todosPerUser])
+            ));
+        });
+
+        return new Dataset(prefix, todoIds);
+    }
+
+    // BATCH_SIZE 개마다 트랜잭션을 끊어 영속성 컨텍스트가 커지지 않게 한다.
+    private void persistInChunks(int count, IntConsumer persistAt) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            int start = from;
+            int end = Math.min(count, from + BATCH_SIZE);
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < end; i++) {
+                    persistAt.accept(i);
+                }
+            });
+        }
+    }
+
+    private User userReference(long userId) {
+        return entityManager.getReference(User.class, userId);
+    }
+
+    public static class Dataset {
+
+        private final String emailPrefix;
+        private final long[][] todoIds;
+
+        private Dataset(String emailPrefix, long[][] todoIds) {
+            this.emailPrefix = emailPrefix;
+            this.todoIds = todoIds;
+        }
+
+        public int getUsers() {
+            return todoIds.length;
+        }
+
+        public int getTodosPerUser() {
+            return todoIds.length == 0 ? 0 : todoIds[0].length;
+        }
+
+        public String email(int userIndex) {
+            return emailPrefix + userIndex + "@example.com";
+        }
+
+        // userIndex 번째 유저가 작성한(= 담당자인) 일정 id
+        public long todoId(int userIndex, int todoIndex) {
+            return todoIds[userIndex][todoIndex];
+        }
+    }
+}
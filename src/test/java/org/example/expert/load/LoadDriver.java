@@ -0,0 +1,129 @@
+package org.example.expert.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 실제 포트로 띄운 앱에 HTTP 요청을 섞어 보낸다. 요청 비율은 로그인 5, 일정 생성 15, 일정 목록 45, 댓글 35 (%).
+public class LoadDriver {
+
+    private final String baseUrl;
+    private final LoadDatasetGenerator.Dataset dataset;
+    private final String password;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private List<String> tokens;
+
+    public LoadDriver(String baseUrl, LoadDatasetGenerator.Dataset dataset, String password, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.password = password;
+        this.objectMapper = objectMapper;
+    }
+
+    // 미리 로그인해 둔 activeUsers 명의 토큰을 돌려 쓰며 threads 개의 워커가 duration 동안 요청을 보낸다.
+    public LoadReport run(int threads, int activeUsers, Duration duration) throws InterruptedException {
+        int userCount = Math.min(activeUsers, dataset.getUsers());
+        tokens = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            tokens.add(signin(i, null));
+        }
+
+        LoadReport report = new LoadReport();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    step(report);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+        return report;
+    }
+
+    private void step(LoadReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int userIndex = random.nextInt(tokens.size());
+        String token = tokens.get(userIndex);
+        long todoId = dataset.todoId(userIndex, random.nextInt(dataset.getTodosPerUser()));
+        int dice = random.nextInt(100);
+
+        if (dice < 5) {
+            signin(userIndex, report);
+        } else if (dice < 20) {
+            send(report, "POST /todos", post("/todos", token, "{\"title\":\"load\",\"contents\":\"load\"}"));
+        } else if (dice < 45) {
+            send(report, "GET /todos", get("/todos?page=" + (random.nextInt(5) + 1) + "&size=10", token));
+        } else if (dice < 65) {
+            send(report, "GET /todos/cursor", get("/todos/cursor?size=10", token));
+        } else if (dice < 85) {
+            send(report, "GET /todos/{id}/comments", get("/todos/" + todoId + "/comments", token));
+        } else {
+            send(report, "POST /todos/{id}/comments", post("/todos/" + todoId + "/comments", token, "{\"contents\":\"load\"}"));
+        }
+    }
+
+    private String signin(int userIndex, LoadReport report) {
+        String body = "{\"email\":\"" + dataset.email(userIndex) + "\",\"password\":\"" + password + "\"}";
+        HttpResponse<String> response = send(report, "POST /auth/signin", post("/auth/signin", null, body));
+        try {
+            return objectMapper.readTree(response.body()).get("bearerToken").asText();
+        } catch (IOException | NullPointerException e) {
+            throw new IllegalStateException("로그인 실패: " + response.body(), e);
+        }
+    }
+
+    private HttpResponse<String> send(LoadReport report, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            // 연결 오류는 실패 건으로만 센다.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (report != null) {
+            boolean success = response != null && response.statusCode() / 100 == 2;
+            report.record(endpoint, System.nanoTime() - start, success);
+        }
+        return response;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", token);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.load;
+
+import org.example.expert.domain.common.metrics.LatencyHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 엔드포인트별 처리량과 지연 분포(마이크로초). 기록은 여러 워커 스레드에서 동시에 들어온다.
+public class LoadReport {
+
+    private final Map<String, EndpointStats> statsByEndpoint = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        EndpointStats stats = statsByEndpoint.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.histogram.record(elapsedNanos / 1_000);
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    public long totalErrors() {
+        return statsByEndpoint.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    public long totalRequests() {
+        return statsByEndpoint.values().stream().mapToLong(stats -> stats.histogram.snapshot().getTotalCount()).sum();
+    }
+
+    public String format(String title, double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("== ").append(title).append(" (").append(String.format("%.1f", elapsedSeconds)).append("s) ==\n");
+        sb.append(String.format("%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(us)", "p95(us)", "p99(us)", "max(us)"));
+        statsByEndpoint.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    LatencyHistogram.Snapshot snapshot = entry.getValue().histogram.snapshot();
+                    sb.append(String.format("%-28s %8d %7d %9.1f %9d %9d %9d %9d%n",
+                            entry.getKey(),
+                            snapshot.getTotalCount(),
+                            entry.getValue().errors.sum(),
+                            snapshot.getTotalCount() / elapsedSeconds,
+                            snapshot.percentile(50),
+                            snapshot.percentile(95),
+                            snapshot.percentile(99),
+                            snapshot.getMax()));
+                });
+        return sb.toString();
+    }
+
+    private static class EndpointStats {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.expert.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PasswordEncoder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 기본 test 태스크에서는 제외되고 ./gradlew loadTest 로만 돈다.
+// 규모는 -Pload.users=... 처럼 넘기고, 결과표는 build/reports/load 에 남는다.
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "weather.source=file",
+                "weather.file.location=classpath:load/weather.json"
+        }
+)
+class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger("LoadTest");
+
+    private static final String PASSWORD = "load-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${load.users:200}")
+    private int users;
+
+    @Value("${load.todos-per-user:20}")
+    private int todosPerUser;
+
+    @Value("${load.comments-per-todo:5}")
+    private int commentsPerTodo;
+
+    @Value("${load.threads:16}")
+    private int threads;
+
+    @Value("${load.active-users:50}")
+    private int activeUsers;
+
+    @Value("${load.duration:PT30S}")
+    private Duration duration;
+
+    @Value("${load.name:default}")
+    private String name;
+
+    @Test
+    void 혼합_트래픽_부하를_걸고_엔드포인트별_결과를_남긴다() throws Exception {
+        // given
+        long seedStart = System.nanoTime();
+        LoadDatasetGenerator.Dataset dataset = new LoadDatasetGenerator(entityManager, new TransactionTemplate(transactionManager))
+                .generate(users, todosPerUser, commentsPerTodo, passwordEncoder.encode(PASSWORD));
+        log.info("데이터 생성 완료: users={}, todos={}, {}ms",
+                users, (long) users * todosPerUser, (System.nanoTime() - seedStart) / 1_000_000);
+
+        // when
+        LoadReport report = new LoadDriver("http://localhost:" + port, dataset, PASSWORD, objectMapper)
+                .run(threads, activeUsers, duration);
+
+        // then
+        String title = name + " threads=" + threads + " users=" + users + " todosPerUser=" + todosPerUser;
+        String formatted = report.format(title, duration.toMillis() / 1000.0);
+        log.info("\n{}", formatted);
+        write(formatted);
+        assertTrue(report.totalRequests() > 0);
+    }
+
+    private void write(String formatted) throws IOException {
+        Path dir = Path.of("build", "reports", "load");
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(name + ".txt"), formatted);
+    }
+}